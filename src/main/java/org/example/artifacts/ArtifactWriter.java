@@ -0,0 +1,144 @@
+package org.example.artifacts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Compresses failure artifacts and writes them to disk on a small background pool.
+ *
+ * The pool and its queue are bounded. When failures pile up faster than they can be written,
+ * the failing test thread writes its own artifacts, which slows the suite down instead of letting
+ * captured screenshots accumulate in memory. The total written per run is capped; once the cap is
+ * reached, further artifacts are dropped and counted.
+ */
+public class ArtifactWriter {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final long maxBytes;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    /**
+     * Constructor to start the writer threads.
+     * @param directory Where the artifact archives are written.
+     * @param threads The number of writer threads.
+     * @param queueSize How many captures may wait for a writer before the caller writes itself.
+     * @param maxBytes The most compressed bytes written per run.
+     */
+    public ArtifactWriter(Path directory, int threads, int queueSize, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                task -> {
+                    Thread thread = new Thread(task, "artifact-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);  // Never keep the JVM alive for artifacts
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Method to queue artifacts for writing; returns right away unless the queue is full.
+     * @param artifacts The captured browser state.
+     * @return The archive the artifacts will be written to, unless the size cap is reached first.
+     */
+    public Path submit(FailureArtifacts artifacts) {
+        Path archive = directory.resolve(artifacts.testName() + "-" + TIMESTAMP.format(artifacts.capturedAt()) + ".zip");
+        executor.execute(() -> write(artifacts, archive));
+        return archive;
+    }
+
+    /**
+     * Method to finish the queued writes and stop the writer threads.
+     * @param timeoutSeconds How long to wait for queued writes.
+     * @return A one-line summary of what was written and dropped.
+     */
+    public String shutdown(long timeoutSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                dropped.addAndGet(executor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return String.format("Failure artifacts: %d written (%d bytes) to %s, %d dropped",
+                written.get(), bytesWritten.get(), directory, dropped.get());
+    }
+
+    private void write(FailureArtifacts artifacts, Path archive) {
+        byte[] zip = compress(artifacts);
+        // Reserve the space first, so concurrent writers can never overshoot the cap together
+        if (bytesWritten.addAndGet(zip.length) > maxBytes) {
+            bytesWritten.addAndGet(-zip.length);
+            dropped.incrementAndGet();
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(archive, zip);
+            written.incrementAndGet();
+        } catch (IOException e) {
+            bytesWritten.addAndGet(-zip.length);
+            dropped.incrementAndGet();
+        }
+    }
+
+    private static byte[] compress(FailureArtifacts artifacts) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.setLevel(Deflater.BEST_SPEED);
+            if (artifacts.screenshot().length > 0) {
+                stored(zip, "screenshot.png", artifacts.screenshot()); // PNG is already compressed
+            }
+            deflated(zip, "page.html", artifacts.pageSource());
+            deflated(zip, "console.log", String.join("\n", artifacts.consoleLog()));
+            deflated(zip, "info.txt", "test=" + artifacts.testName() + "\nurl=" + artifacts.url()
+                    + "\ncapturedAt=" + artifacts.capturedAt() + "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void stored(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        entry.setCrc(crc.getValue());
+        zip.putNextEntry(entry);
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    private static void deflated(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
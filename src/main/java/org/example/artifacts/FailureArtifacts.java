@@ -0,0 +1,65 @@
+package org.example.artifacts;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The raw state of a browser at the moment a test failed.
+ * Capturing only copies bytes out of the browser; compressing and writing them is left to
+ * {@link ArtifactWriter} so the test thread can hand its browser back right away.
+ * @param testName The failed test, "Class.method".
+ * @param capturedAt When the state was captured.
+ * @param url The URL the browser was on.
+ * @param screenshot The PNG screenshot, or empty if it could not be taken.
+ * @param pageSource The DOM serialized as HTML.
+ * @param consoleLog The browser console entries since they were last read.
+ */
+public record FailureArtifacts(String testName, Instant capturedAt, String url, byte[] screenshot, String pageSource,
+                               List<String> consoleLog) {
+
+    /**
+     * Method to capture the screenshot, page source and console log of a browser.
+     * Every part is captured separately, so a browser that can no longer take screenshots
+     * still yields its page source, and the other way around.
+     * @param driver The browser of the failed test.
+     * @param testName The failed test, "Class.method".
+     * @return The captured state.
+     */
+    public static FailureArtifacts capture(WebDriver driver, String testName) {
+        Instant capturedAt = Instant.now();
+        String url = "";
+        byte[] screenshot = new byte[0];
+        String pageSource = "";
+        List<String> consoleLog = List.of();
+        try {
+            url = driver.getCurrentUrl();
+        } catch (WebDriverException e) {
+            url = "(unavailable: " + e.getClass().getSimpleName() + ")";
+        }
+        try {
+            screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (WebDriverException | ClassCastException e) {
+            // Leave the screenshot empty; the page source is often enough
+        }
+        try {
+            pageSource = driver.getPageSource();
+        } catch (WebDriverException e) {
+            pageSource = "<!-- Page source unavailable: " + e.getMessage() + " -->";
+        }
+        try {
+            // Holds this test's entries only, since DriverPool drains the log when it checks the browser out
+            consoleLog = driver.manage().logs().get(LogType.BROWSER).getAll().stream().map(LogEntry::toString).toList();
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            consoleLog = List.of("(console log unavailable: " + e.getClass().getSimpleName() + ")");
+        }
+        return new FailureArtifacts(testName, capturedAt, url, screenshot, pageSource, consoleLog);
+    }
+
+}
@@ -0,0 +1,19 @@
+package org.example.data;
+
+import org.example.pages.LoginOutcome;
+
+/**
+ * One row of a credential matrix: what to type and which outcome the login must have.
+ * @param username The username to type.
+ * @param password The password to type.
+ * @param expected The expected outcome.
+ * @param source Where the row came from, "file:line", for failure messages.
+ */
+public record CredentialCase(String username, String password, LoginOutcome expected, String source) {
+
+    @Override
+    public String toString() {
+        // Shown as the test parameter in reports, so keep it short and never print the password
+        return "'" + username + "' -> " + expected + " (" + source + ")";
+    }
+}
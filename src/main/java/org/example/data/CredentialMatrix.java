@@ -0,0 +1,193 @@
+package org.example.data;
+
+import org.example.pages.LoginOutcome;
+import org.example.selection.TestInputs;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams credential cases from a CSV or JSON Lines file, one row at a time, so the matrix itself
+ * never holds more than the next row. Whether the rows stay out of memory depends on the consumer:
+ * a parallel TestNG data provider reads them all before running the first one.
+ *
+ * CSV files need a header naming the username, password and expected columns; fields may be
+ * quoted to contain commas. JSON Lines files (.jsonl) hold one object with the same keys per line.
+ * Blank lines and lines starting with # are skipped in both. The file is closed when the last row
+ * has been read.
+ */
+public class CredentialMatrix implements Iterator<CredentialCase>, AutoCloseable {
+
+    private final String name;
+    private final BufferedReader reader;
+    private final boolean jsonLines;
+    private final Json json = new Json();
+    private List<String> header;
+    private CredentialCase next;
+    private int lineNumber;
+    private boolean exhausted;
+
+    private CredentialMatrix(String name, InputStream in) {
+        this.name = name;
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.jsonLines = name.toLowerCase(Locale.ROOT).endsWith(".jsonl");
+    }
+
+    /**
+     * Method to open a matrix from the file system, or from the classpath if there is no such file.
+     * @param location A file path or classpath resource, e.g. "data/login-matrix.csv".
+     * @return A lazy iterator over the rows.
+     */
+    public static CredentialMatrix open(String location) {
+        try {
+            Path file = Path.of(location);
+            if (Files.isRegularFile(file)) {
+                TestInputs.fixture(file);
+                return new CredentialMatrix(file.getFileName().toString(), Files.newInputStream(file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open credential matrix " + location, e);
+        }
+        TestInputs.resource(location);
+        InputStream in = CredentialMatrix.class.getClassLoader().getResourceAsStream(location);
+        if (in == null) {
+            throw new IllegalArgumentException("Credential matrix not found as file or classpath resource: " + location);
+        }
+        return new CredentialMatrix(location.substring(location.lastIndexOf('/') + 1), in);
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public synchronized CredentialCase next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CredentialCase current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CredentialCase readNext() {
+        if (exhausted) {
+            return null;
+        }
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (jsonLines) {
+                    return fromJson(line);
+                }
+                if (header == null) {
+                    header = splitCsv(line).stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+                    requireColumns();
+                    continue;
+                }
+                return fromCsv(line);
+            }
+            exhausted = true;
+            close(); // All rows read, release the file right away
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + name + " at line " + lineNumber, e);
+        }
+    }
+
+    private CredentialCase fromCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != header.size()) {
+            throw new IllegalStateException(source() + ": expected " + header.size() + " fields but found " + fields.size());
+        }
+        return toCase(fields.get(header.indexOf("username")), fields.get(header.indexOf("password")),
+                fields.get(header.indexOf("expected")));
+    }
+
+    private CredentialCase fromJson(String line) {
+        Map<String, Object> row = json.toType(line, Json.MAP_TYPE);
+        return toCase(String.valueOf(row.getOrDefault("username", "")), String.valueOf(row.getOrDefault("password", "")),
+                String.valueOf(row.get("expected")));
+    }
+
+    private CredentialCase toCase(String username, String password, String expected) {
+        try {
+            return new CredentialCase(username, password, LoginOutcome.valueOf(expected.trim().toUpperCase(Locale.ROOT)), source());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(source() + ": unknown expected outcome '" + expected + "'", e);
+        }
+    }
+
+    private void requireColumns() {
+        for (String column : List.of("username", "password", "expected")) {
+            if (!header.contains(column)) {
+                throw new IllegalStateException(name + ": header must contain a '" + column + "' column but was " + header);
+            }
+        }
+    }
+
+    private String source() {
+        return name + ":" + lineNumber;
+    }
+
+    /**
+     * Splits one CSV line; double quotes protect commas, and "" inside quotes is a literal quote.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
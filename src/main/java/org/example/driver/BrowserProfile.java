@@ -0,0 +1,89 @@
+package org.example.driver;
+
+import org.example.utils.ConfigReader;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A named set of browser start-up options, defined in config.properties as
+ * browser.profile.&lt;name&gt;.headless, .page.load.strategy, .window.size and .block.
+ *
+ * The default "lean" profile runs headless, returns from navigation at DOMContentLoaded and
+ * blocks images, fonts and analytics through CDP, because the login assertions never look at them.
+ * Visual tests opt back into the "full" profile through browser.profile.for.&lt;Class&gt;[.&lt;method&gt;].
+ *
+ * @param name The profile name.
+ * @param headless True to start the browser without a window.
+ * @param pageLoadStrategy When navigation commands return: normal (load), eager (DOMContentLoaded) or none.
+ * @param windowSize The window size as "width,height", or empty for the browser default.
+ * @param blockedUrls URL patterns, with * wildcards, that the browser must not fetch.
+ */
+public record BrowserProfile(String name, boolean headless, PageLoadStrategy pageLoadStrategy, String windowSize,
+                             List<String> blockedUrls) {
+
+    // Background work a test browser never needs; each one costs start-up time or network traffic
+    private static final List<String> LEAN_ARGUMENTS = List.of(
+            "--disable-extensions", "--disable-background-networking", "--disable-component-update",
+            "--disable-default-apps", "--disable-sync", "--no-first-run", "--no-default-browser-check",
+            "--metrics-recording-only", "--mute-audio");
+
+    public BrowserProfile {
+        blockedUrls = List.copyOf(blockedUrls);
+    }
+
+    /**
+     * Method to read a profile from config.properties.
+     * @param configReader The configuration snapshot.
+     * @param name The profile name.
+     * @return The profile.
+     */
+    public static BrowserProfile fromConfig(ConfigReader configReader, String name) {
+        String prefix = "browser.profile." + name + ".";
+        List<String> blocked = Arrays.stream(configReader.getString(prefix + "block").split(","))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .toList();
+        return new BrowserProfile(name, configReader.getBoolean(prefix + "headless"),
+                PageLoadStrategy.fromString(configReader.getString(prefix + "page.load.strategy").toLowerCase(Locale.ROOT)),
+                configReader.getString(prefix + "window.size").trim(), blocked);
+    }
+
+    /**
+     * Method to get the profile configured for a test, falling back to the class and then the default profile.
+     * @param configReader The configuration snapshot.
+     * @param testClass The test class.
+     * @param testMethod The test method name.
+     * @return The profile the test should run with.
+     */
+    public static BrowserProfile forTest(ConfigReader configReader, Class<?> testClass, String testMethod) {
+        return fromConfig(configReader, configReader.getBrowserProfileName(testClass.getSimpleName(), testMethod));
+    }
+
+    /**
+     * Method to build the Chrome options of this profile. URL blocking is applied after start-up
+     * through CDP, see {@link DriverFactory}.
+     * @return The Chrome options.
+     */
+    public ChromeOptions toChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, Map.of(LogType.BROWSER, "ALL")); // Console log for failure artifacts
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        if (!windowSize.isEmpty()) {
+            // A fixed size and pixel ratio keep screenshots comparable with baselines taken on other machines
+            options.addArguments("--window-size=" + windowSize, "--force-device-scale-factor=1");
+        }
+        if (!blockedUrls.isEmpty()) {
+            options.addArguments(LEAN_ARGUMENTS); // Profiles that block resources are the ones tuned for speed
+        }
+        return options;
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.example.utils.ConfigReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the ChromeDriver binary without touching the network when possible.
+ *
+ * The driver path resolved by WebDriverManager is remembered in driver.cache.file, keyed by the
+ * installed Chrome version. As long as Chrome is not updated, later runs reuse the cached binary
+ * and work fully offline. Air-gapped runners can also point driver.binary at a ChromeDriver directly.
+ */
+final class DriverBinaryCache {
+
+    private static final String DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final Pattern VERSION = Pattern.compile("\\d+\\.\\d+\\.\\d+\\.\\d+");
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Method to point Selenium at a ChromeDriver binary matching the installed Chrome.
+     * @param configReader The configuration with driver.binary and driver.cache.file.
+     * @return The ChromeDriver binary.
+     */
+    static Path resolve(ConfigReader configReader) {
+        Optional<Path> configured = Optional.of(configReader.getDriverBinary())
+                .filter(path -> !path.isBlank()).map(Path::of);
+        if (configured.isPresent()) {
+            return use(configured.get());
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver();
+        String browserVersion = manager.getBrowserPath().flatMap(DriverBinaryCache::browserVersion).orElse(null);
+        Path cacheFile = configReader.getDriverCacheFile();
+        Properties cache = load(cacheFile);
+        String key = "chrome." + browserVersion;
+
+        if (browserVersion != null && cache.getProperty(key) != null && Files.isExecutable(Path.of(cache.getProperty(key)))) {
+            return use(Path.of(cache.getProperty(key))); // Same Chrome as last time, no need to ask the network
+        }
+
+        manager.setup();
+        Path driver = Path.of(manager.getDownloadedDriverPath());
+        if (browserVersion != null) {
+            cache.setProperty(key, driver.toAbsolutePath().toString());
+            store(cacheFile, cache);
+        }
+        return use(driver);
+    }
+
+    private static Path use(Path driver) {
+        if (!Files.isExecutable(driver)) {
+            throw new IllegalStateException("ChromeDriver binary is missing or not executable: " + driver);
+        }
+        System.setProperty(DRIVER_PROPERTY, driver.toAbsolutePath().toString()); // Also keeps Selenium Manager offline
+        return driver;
+    }
+
+    /**
+     * Reads the Chrome version locally: from "chrome --version", or on Windows, where Chrome does not
+     * print its version, from the version-named directory Chrome installs next to chrome.exe.
+     */
+    private static Optional<String> browserVersion(Path browser) {
+        if (System.getProperty("os.name").toLowerCase().contains("win")) {
+            try (Stream<Path> siblings = Files.list(browser.toAbsolutePath().getParent())) {
+                return siblings.map(path -> path.getFileName().toString()).filter(name -> VERSION.matcher(name).matches())
+                        .max(DriverBinaryCache::compareVersions);
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+        try {
+            Process process = new ProcessBuilder(browser.toString(), "--version").redirectErrorStream(true).start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return Optional.empty();
+            }
+            Matcher matcher = VERSION.matcher(output);
+            return matcher.find() ? Optional.of(matcher.group()) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static int compareVersions(String left, String right) {
+        String[] a = left.split("\\.");
+        String[] b = right.split("\\.");
+        for (int i = 0; i < a.length; i++) {
+            int difference = Integer.compare(Integer.parseInt(a[i]), Integer.parseInt(b[i]));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    private static Properties load(Path file) {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                // An unreadable cache is only a cache miss
+            }
+        }
+        return properties;
+    }
+
+    private static void store(Path file, Properties properties) {
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "ChromeDriver binaries by installed Chrome version");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write driver cache " + file, e);
+        }
+    }
+}
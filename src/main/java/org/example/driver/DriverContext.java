@@ -0,0 +1,80 @@
+package org.example.driver;
+
+import org.example.pages.LoginPage;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Thread-confined holder for the WebDriver and page objects of the currently running test.
+ * Every test thread gets its own driver and page objects, so TestNG can run methods and classes
+ * in parallel without tests stepping on each other's browser.
+ */
+public final class DriverContext {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<LoginPage> LOGIN_PAGE = new ThreadLocal<>();
+
+    // Drivers currently attached to any thread, used to reject sharing one browser between threads
+    private static final Set<WebDriver> ATTACHED = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private DriverContext() {
+    }
+
+    /**
+     * Method to bind a driver to the calling thread.
+     * @param driver The driver the current test will use.
+     * @throws IllegalStateException If the thread already has a driver or the driver is bound to another thread.
+     */
+    public static void attach(WebDriver driver) {
+        if (DRIVER.get() != null) {
+            throw new IllegalStateException("A driver is already attached to " + Thread.currentThread().getName());
+        }
+        if (!ATTACHED.add(driver)) {
+            throw new IllegalStateException("The driver is already in use by another thread.");
+        }
+        DRIVER.set(driver);
+    }
+
+    /**
+     * Method to get the driver bound to the calling thread.
+     * @return The thread's WebDriver.
+     */
+    public static WebDriver driver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            throw new IllegalStateException("No driver is attached to " + Thread.currentThread().getName());
+        }
+        return driver;
+    }
+
+    /**
+     * Method to get the login page object of the calling thread, created on first use.
+     * @return A LoginPage bound to the thread's driver.
+     */
+    public static LoginPage loginPage() {
+        LoginPage loginPage = LOGIN_PAGE.get();
+        if (loginPage == null) {
+            loginPage = new LoginPage(driver());
+            LOGIN_PAGE.set(loginPage);
+        }
+        return loginPage;
+    }
+
+    /**
+     * Method to unbind the driver and page objects from the calling thread.
+     * @return The driver that was attached, or null if there was none.
+     */
+    public static WebDriver detach() {
+        WebDriver driver = DRIVER.get();
+        DRIVER.remove();
+        LOGIN_PAGE.remove();
+        if (driver != null) {
+            ATTACHED.remove(driver);
+        }
+        return driver;
+    }
+}
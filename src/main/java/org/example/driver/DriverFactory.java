@@ -0,0 +1,108 @@
+package org.example.driver;
+
+import org.example.grid.GridStatus;
+import org.example.performance.CommandTimingListener;
+import org.example.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.Browser;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.util.Map;
+
+/**
+ * Creates browser sessions configured from {@link ConfigReader}.
+ * Every part of the harness that needs a new browser (the driver pool, load and soak runs)
+ * goes through this class so they all start identical sessions, locally or on a Selenium Grid.
+ */
+public final class DriverFactory {
+
+    private static boolean binaryResolved;
+    private static int sessionLimit;  // 0 until first computed
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Method to make sure the ChromeDriver binary is available, resolving it once per JVM.
+     * Resolution is cached by Chrome version, so only the first run after a Chrome update needs the network.
+     * Browsers of a remote grid are started by its nodes, so nothing is resolved unless the grid is embedded.
+     */
+    public static synchronized void resolveDriverBinary() {
+        ConfigReader configReader = ConfigReader.getInstance();
+        if (!binaryResolved && (!configReader.isRemoteDriver() || configReader.isGridEmbedded())) {
+            DriverBinaryCache.resolve(configReader);
+            binaryResolved = true;
+        }
+    }
+
+    /**
+     * Method to get how many browser sessions this JVM may have open at once.
+     * Locally that is pool.size. On a grid it is also capped by the grid's Chrome slots, split evenly
+     * between the shards sharing the grid, so tests wait in the pool instead of in the grid's queue.
+     * @return The session limit, computed once per JVM.
+     */
+    public static synchronized int sessionLimit() {
+        if (sessionLimit == 0) {
+            ConfigReader configReader = ConfigReader.getInstance();
+            int limit = configReader.getPoolSize();
+            if (configReader.isRemoteDriver()) {
+                int capacity = GridStatus.fetch(configReader.getGridUrl()).capacity(Browser.CHROME.browserName());
+                // No slots yet means the nodes have not registered or are started on demand; the grid queues meanwhile
+                if (capacity > 0) {
+                    limit = Math.min(limit, Math.max(1, capacity / configReader.getShardCount()));
+                }
+            }
+            sessionLimit = limit;
+        }
+        return sessionLimit;
+    }
+
+    /**
+     * Method to start a new browser session with the default profile.
+     * @return A new WebDriver.
+     */
+    public static WebDriver newDriver() {
+        ConfigReader configReader = ConfigReader.getInstance();
+        return newDriver(BrowserProfile.fromConfig(configReader, configReader.getDefaultBrowserProfile()));
+    }
+
+    /**
+     * Method to start a new browser session.
+     * @param profile The start-up options of the browser.
+     * @return A new WebDriver.
+     */
+    public static WebDriver newDriver(BrowserProfile profile) {
+        ConfigReader configReader = ConfigReader.getInstance();
+        WebDriver driver;
+        if (configReader.isRemoteDriver()) {
+            // Augmenting adds CDP access through the grid, which URL blocking and network capture rely on
+            driver = RemoteWebDriver.builder()
+                    .oneOf(profile.toChromeOptions())
+                    .address(configReader.getGridUrl())
+                    .augmentUsing(new Augmenter())
+                    .build();
+        } else {
+            resolveDriverBinary();
+            driver = new ChromeDriver(profile.toChromeOptions());
+        }
+        if (!profile.blockedUrls().isEmpty()) {
+            try {
+                // Blocking at the network layer keeps the browser from even requesting assets the tests never look at
+                Drivers.executeCdp(driver, "Network.enable", Map.of());
+                Drivers.executeCdp(driver, "Network.setBlockedURLs", Map.of("urls", profile.blockedUrls()));
+            } catch (RuntimeException e) {
+                driver.quit(); // Nobody else holds this browser yet, so it would leak
+                throw e;
+            }
+        }
+
+        if (configReader.isInstrumentationEnabled()) {
+            // Time and count every command; see CommandMetrics for the aggregated results
+            driver = new EventFiringDecorator<>(new CommandTimingListener()).decorate(driver);
+        }
+        return driver;
+    }
+}
@@ -0,0 +1,270 @@
+package org.example.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable WebDriver sessions.
+ * Starting a browser is by far the most expensive step of a test, so sessions are checked out
+ * per test, reset cheaply on return (cookies, web storage, base URL) and only recycled after
+ * a configurable number of uses or when the test using them failed.
+ */
+public class DriverPool {
+
+    private final Supplier<WebDriver> driverFactory;
+    private final int size;
+    private final int maxUses;
+    private final String resetUrl;
+
+    private final Semaphore permits;  // Limits the number of live sessions to the pool size
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private final AtomicInteger live = new AtomicInteger();     // Sessions started and not yet quit
+    private final AtomicInteger warming = new AtomicInteger();  // Sessions being started by prewarm()
+
+    private volatile boolean closed;
+
+    /**
+     * Constructor to initialize the pool.
+     * @param driverFactory Creates a new browser session whenever the pool needs one.
+     * @param size The maximum number of live sessions.
+     * @param maxUses The number of tests a session serves before it is replaced.
+     * @param resetUrl The URL a session is navigated to when it is returned to the pool.
+     */
+    public DriverPool(Supplier<WebDriver> driverFactory, int size, int maxUses, String resetUrl) {
+        if (size < 1 || maxUses < 1) {
+            throw new IllegalArgumentException("Pool size and max uses must be positive.");
+        }
+        this.driverFactory = driverFactory;
+        this.size = size;
+        this.maxUses = maxUses;
+        this.resetUrl = resetUrl;
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Method to start sessions in the background, so the first tests find warm browsers.
+     * Warm sessions count towards the pool size and are navigated to the reset URL on checkout,
+     * so they may be started before the site under test is up.
+     * @param count The number of sessions to start, capped at the pool size.
+     */
+    public void prewarm(int count) {
+        for (int i = 0; i < Math.min(count, size); i++) {
+            warming.incrementAndGet();
+            Thread.ofVirtual().name("driver-prewarm-" + i).start(() -> {
+                try {
+                    if (!reserveLive()) {
+                        return; // Tests already started enough browsers
+                    }
+                    try {
+                        PooledSession session = new PooledSession(driverFactory.get());
+                        idle.offerLast(session);
+                        if (closed && idle.remove(session)) {
+                            discard(session); // The pool was shut down while this browser was starting
+                        }
+                    } catch (RuntimeException e) {
+                        live.decrementAndGet(); // A test will start the browser itself and report the error
+                    }
+                } finally {
+                    warming.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Method to check out a session for the calling test.
+     * Idle sessions are health-checked first; a crashed session is quit and replaced
+     * so the test never receives a dead browser. While the pool is full of sessions that are still
+     * being prewarmed, the test waits for one of those instead of starting another browser.
+     * The browser console log is emptied, so it only holds what the new test logs.
+     * @return A WebDriver that is positioned on the reset URL.
+     */
+    public WebDriver checkout() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool has been shut down.");
+        }
+        permits.acquireUninterruptibly();
+        try {
+            PooledSession session = pollHealthy();
+            while (session == null && warming.get() > 0 && live.get() >= size) {
+                session = awaitWarm();
+            }
+            if (session == null) {
+                live.incrementAndGet();
+                try {
+                    session = new PooledSession(driverFactory.get());
+                } catch (RuntimeException e) {
+                    live.decrementAndGet();
+                    throw e;
+                }
+            }
+            if (!session.positioned) {
+                try {
+                    session.driver.get(resetUrl);
+                } catch (RuntimeException e) {
+                    discard(session); // Neither leased nor idle, so quit it here or the browser leaks
+                    throw e;
+                }
+                session.positioned = true;
+            }
+            session.drainConsoleLog();
+            session.uses++;
+            leased.put(session.driver, session);
+            return session.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Method to return a session to the pool after a test.
+     * @param driver The driver previously obtained from {@link #checkout()}.
+     * @param failed True if the test failed, in which case the browser is discarded
+     *               instead of being reused, because its state cannot be trusted.
+     */
+    public void release(WebDriver driver, boolean failed) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            return;
+        }
+        try {
+            if (closed || failed || session.uses >= maxUses || !session.reset(resetUrl)) {
+                discard(session);
+            } else {
+                idle.offerFirst(session); // Most recently used first keeps the warmest browsers busy
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Method to quit every session owned by the pool.
+     */
+    public void shutdown() {
+        closed = true;
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            discard(session);
+        }
+        leased.values().forEach(this::discard);
+        leased.clear();
+    }
+
+    private PooledSession pollHealthy() {
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            if (session.isHealthy()) {
+                return session;
+            }
+            discard(session); // Crashed or unresponsive, replace it with a fresh one
+        }
+        return null;
+    }
+
+    private PooledSession awaitWarm() {
+        try {
+            PooledSession session = idle.pollFirst(50, TimeUnit.MILLISECONDS);
+            if (session == null || session.isHealthy()) {
+                return session;
+            }
+            discard(session);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a prewarmed browser.", e);
+        }
+    }
+
+    /**
+     * Counts a new session against the pool size, unless the pool is already full.
+     */
+    private boolean reserveLive() {
+        int current;
+        do {
+            current = live.get();
+            if (current >= size) {
+                return false;
+            }
+        } while (!live.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void discard(PooledSession session) {
+        session.quit();
+        live.decrementAndGet();
+    }
+
+    /**
+     * A browser session together with its usage counter.
+     */
+    private static class PooledSession {
+
+        private final WebDriver driver;
+        private int uses;
+        private boolean positioned;  // False until the session has been navigated to the reset URL
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        /**
+         * A cheap command that fails fast when the browser or driver process is gone.
+         */
+        private boolean isHealthy() {
+            try {
+                driver.getWindowHandle();
+                return true;
+            } catch (WebDriverException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Clears cookies and web storage and navigates back to the start page.
+         * @return False if the session could not be reset and should be discarded.
+         */
+        private boolean reset(String url) {
+            try {
+                driver.manage().deleteAllCookies();
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+                driver.get(url);
+                return true;
+            } catch (WebDriverException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Reads and discards the console log, which otherwise keeps the entries of every earlier test.
+         */
+        private void drainConsoleLog() {
+            try {
+                driver.manage().logs().get(LogType.BROWSER);
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                // The browser keeps no console log, so there is nothing to carry over either
+            }
+        }
+
+        private void quit() {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                // The session is already gone, nothing left to clean up
+            }
+        }
+    }
+}
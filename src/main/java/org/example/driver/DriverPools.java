@@ -0,0 +1,44 @@
+package org.example.driver;
+
+import org.example.utils.ConfigReader;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Process-wide registry of driver pools, one per browser profile, since a browser cannot switch
+ * profiles once started. Pools are created lazily so that all test classes of a suite, and the
+ * suite listeners that prewarm them, share the same browsers.
+ */
+public final class DriverPools {
+
+    private static final Map<String, DriverPool> POOLS = new HashMap<>();
+
+    private DriverPools() {
+    }
+
+    /**
+     * Method to get the pool of a browser profile, creating it on first use.
+     * @param profile The browser profile.
+     * @return The shared pool for the profile.
+     */
+    public static DriverPool forProfile(BrowserProfile profile) {
+        synchronized (POOLS) {
+            return POOLS.computeIfAbsent(profile.name(), name -> {
+                ConfigReader config = ConfigReader.getInstance();
+                return new DriverPool(() -> DriverFactory.newDriver(profile), DriverFactory.sessionLimit(),
+                        config.getPoolMaxUses(), config.getBaseUrl());
+            });
+        }
+    }
+
+    /**
+     * Method to quit the browsers of every pool, e.g. at the end of the suite.
+     */
+    public static void shutdownAll() {
+        synchronized (POOLS) {
+            POOLS.values().forEach(DriverPool::shutdown);
+            POOLS.clear();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Helpers for reaching browser-specific capabilities of a (possibly decorated) WebDriver.
+ */
+public final class Drivers {
+
+    private Drivers() {
+    }
+
+    /**
+     * Method to strip decorators and listeners from a driver.
+     * @param driver The driver, possibly wrapped.
+     * @return The innermost driver.
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        WebDriver current = driver;
+        while (current instanceof WrapsDriver) {
+            WebDriver wrapped = ((WrapsDriver) current).getWrappedDriver();
+            if (wrapped == null || wrapped == current) {
+                break;
+            }
+            current = wrapped;
+        }
+        return current;
+    }
+
+    /**
+     * Method to run a Chrome DevTools Protocol command when the driver is a Chromium browser.
+     * @param driver The driver, possibly wrapped.
+     * @param command The CDP command, e.g. "Performance.getMetrics".
+     * @param parameters The command parameters.
+     * @return The command result, or empty if the browser does not speak CDP.
+     */
+    public static Optional<Map<String, Object>> executeCdp(WebDriver driver, String command, Map<String, Object> parameters) {
+        WebDriver unwrapped = unwrap(driver);
+        if (!(unwrapped instanceof HasCdp)) {
+            return Optional.empty();
+        }
+        return Optional.of(((HasCdp) unwrapped).executeCdpCommand(command, parameters));
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.grid;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state of a Selenium Grid as reported by its /status endpoint: whether it accepts sessions,
+ * and the nodes with the browser of every slot.
+ * @param ready Whether the grid can create sessions.
+ * @param nodes The registered nodes.
+ */
+public record GridStatus(boolean ready, List<Node> nodes) {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * A node of the grid.
+     * @param uri The address of the node.
+     * @param up Whether the node accepts new sessions.
+     * @param maxSessions How many sessions the node runs at once, whatever their browsers.
+     * @param slots The browser name of every slot.
+     */
+    public record Node(String uri, boolean up, int maxSessions, List<String> slots) {
+
+        public Node {
+            slots = List.copyOf(slots);
+        }
+
+        /**
+         * Method to count the sessions of one browser the node can run at once.
+         * @param browserName The browser name, e.g. "chrome".
+         * @return The matching slots, limited by the node's session limit.
+         */
+        public int capacity(String browserName) {
+            int matching = (int) slots.stream().filter(browserName::equalsIgnoreCase).count();
+            return maxSessions > 0 ? Math.min(matching, maxSessions) : matching;
+        }
+    }
+
+    public GridStatus {
+        nodes = List.copyOf(nodes);
+    }
+
+    /**
+     * Method to query a grid.
+     * @param grid The URL of the grid (hub or standalone).
+     * @return The current status.
+     * @throws UncheckedIOException If the grid cannot be reached.
+     */
+    public static GridStatus fetch(URI grid) {
+        URI status = URI.create(grid.toString().replaceAll("/+$", "") + "/status");
+        HttpRequest request = HttpRequest.newBuilder(status).timeout(TIMEOUT).GET().build();
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build()) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            return parse(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the status of the Selenium Grid at " + status, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the status of the Selenium Grid at " + status, e);
+        }
+    }
+
+    /**
+     * Method to read a status response.
+     * @param json The body of the /status response.
+     * @return The status it describes.
+     */
+    @SuppressWarnings("unchecked")
+    public static GridStatus parse(String json) {
+        Map<String, Object> response = new Json().toType(json, Json.MAP_TYPE);
+        Map<String, Object> value = (Map<String, Object>) response.getOrDefault("value", Map.of());
+        List<Node> nodes = new ArrayList<>();
+        for (Map<String, Object> node : (List<Map<String, Object>>) value.getOrDefault("nodes", List.of())) {
+            List<String> slots = new ArrayList<>();
+            for (Map<String, Object> slot : (List<Map<String, Object>>) node.getOrDefault("slots", List.of())) {
+                Map<String, Object> stereotype = (Map<String, Object>) slot.getOrDefault("stereotype", Map.of());
+                slots.add(String.valueOf(stereotype.getOrDefault("browserName", "")));
+            }
+            nodes.add(new Node(String.valueOf(node.get("uri")), "UP".equals(node.get("availability")),
+                    ((Number) node.getOrDefault("maxSessions", 0)).intValue(), slots));
+        }
+        return new GridStatus(Boolean.TRUE.equals(value.get("ready")), nodes);
+    }
+
+    /**
+     * Method to count the sessions of one browser the grid can run at once.
+     * @param browserName The browser name, e.g. "chrome".
+     * @return The capacity of all nodes that are up.
+     */
+    public int capacity(String browserName) {
+        return nodes.stream().filter(Node::up).mapToInt(node -> node.capacity(browserName)).sum();
+    }
+
+    /**
+     * Method to count the nodes that accept new sessions.
+     * @return The number of nodes that are up.
+     */
+    public int upNodes() {
+        return (int) nodes.stream().filter(Node::up).count();
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.grid;
+
+import org.example.driver.DriverFactory;
+import org.example.utils.ConfigReader;
+import org.openqa.selenium.grid.commands.Hub;
+import org.openqa.selenium.grid.config.MapConfig;
+import org.openqa.selenium.grid.node.httpd.NodeServer;
+import org.openqa.selenium.grid.server.Server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-process Selenium Grid: a hub on a localhost port and several nodes that start Chrome on this
+ * machine, each limited to a number of concurrent sessions. The hub spreads new sessions over the
+ * nodes with free slots and queues them while all slots are busy, so a suite sees the same
+ * distribution and back-pressure as on a multi-machine grid.
+ */
+public class LocalGrid {
+
+    // Node registration is asynchronous over the event bus; it normally takes a few seconds
+    private static final Duration REGISTRATION_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration POLLING = Duration.ofMillis(250);
+
+    private final int port;
+    private final int nodes;
+    private final int maxSessions;
+    private final List<Server<?>> servers = new ArrayList<>();
+
+    /**
+     * Constructor to describe the grid; call {@link #start()} to launch it.
+     * @param port The localhost port of the hub.
+     * @param nodes The number of nodes.
+     * @param maxSessions The number of concurrent sessions per node.
+     */
+    public LocalGrid(int port, int nodes, int maxSessions) {
+        if (nodes < 1 || maxSessions < 1) {
+            throw new IllegalArgumentException("A grid needs at least one node with at least one session.");
+        }
+        this.port = port;
+        this.nodes = nodes;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Method to describe the grid configured by grid.url, grid.nodes and grid.node.max.sessions.
+     * @param configReader The configuration.
+     * @return The grid, not started yet.
+     */
+    public static LocalGrid fromConfig(ConfigReader configReader) {
+        return new LocalGrid(configReader.getGridUrl().getPort(), configReader.getGridNodes(), configReader.getGridNodeMaxSessions());
+    }
+
+    /**
+     * Method to start the hub and its nodes, and wait until every node has registered.
+     * @return This grid, for chaining.
+     * @throws IllegalStateException If the nodes do not register in time.
+     */
+    public LocalGrid start() {
+        DriverFactory.resolveDriverBinary();  // The nodes detect Chrome through the resolved driver
+        String publish = "tcp://127.0.0.1:" + freePort();
+        String subscribe = "tcp://127.0.0.1:" + freePort();
+        try {
+            servers.add(new Hub().asServer(new MapConfig(Map.of(
+                    "server", Map.of("host", "localhost", "port", port),
+                    "events", Map.of("publish", publish, "subscribe", subscribe, "bind", true)))).start());
+            for (int i = 0; i < nodes; i++) {
+                servers.add(new NodeServer().asServer(new MapConfig(Map.of(
+                        "server", Map.of("host", "localhost", "port", freePort()),
+                        "events", Map.of("publish", publish, "subscribe", subscribe),
+                        "node", Map.of(
+                                "detect-drivers", true,
+                                "driver-implementation", List.of("chrome"),
+                                "max-sessions", maxSessions,
+                                "override-max-sessions", true,  // Allow more sessions than the node has processors
+                                "grid-url", getUrl().toString())))).start());
+            }
+            awaitNodes();
+        } catch (RuntimeException e) {
+            stop();
+            throw e;
+        }
+        return this;
+    }
+
+    /**
+     * Method to stop the nodes and the hub, which ends any session still running on them.
+     */
+    public void stop() {
+        for (int i = servers.size() - 1; i >= 0; i--) {
+            servers.get(i).stop();
+        }
+        servers.clear();
+    }
+
+    /**
+     * Method to get the URL sessions are requested from.
+     * @return The hub URL.
+     */
+    public URI getUrl() {
+        return URI.create("http://localhost:" + port);
+    }
+
+    private void awaitNodes() {
+        long deadline = System.nanoTime() + REGISTRATION_TIMEOUT.toNanos();
+        GridStatus status = GridStatus.fetch(getUrl());
+        while (status.upNodes() < nodes) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Only " + status.upNodes() + " of " + nodes + " grid nodes registered within "
+                        + REGISTRATION_TIMEOUT.toSeconds() + " s; is Chrome installed?");
+            }
+            try {
+                Thread.sleep(POLLING);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for grid nodes", e);
+            }
+            status = GridStatus.fetch(getUrl());
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not find a free port for the grid", e);
+        }
+    }
+}
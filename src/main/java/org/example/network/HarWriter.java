@@ -0,0 +1,67 @@
+package org.example.network;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Writes a HAR 1.2 file incrementally: the envelope is written up front and every entry is
+ * appended as soon as its request completes, so nothing but the open requests is held in memory.
+ */
+class HarWriter implements Closeable {
+
+    private final Json json = new Json();
+    private final Writer writer;
+    private boolean firstEntry = true;
+    private boolean closed;
+
+    HarWriter(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write("{\"log\":{\"version\":\"1.2\",\"creator\":{\"name\":\"Instabug_Challenge\",\"version\":\"1.0\"},"
+                    + "\"pages\":[],\"entries\":[\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create HAR file " + file, e);
+        }
+    }
+
+    /**
+     * Method to append one HAR entry; entries arriving after {@link #close()} are dropped.
+     * @param entry The entry, following the HAR 1.2 "entries" schema.
+     */
+    synchronized void write(Map<String, Object> entry) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (!firstEntry) {
+                writer.write(",\n");
+            }
+            json.newOutput(writer).setPrettyPrint(false).write(entry);
+            firstEntry = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (writer) {
+            writer.write("\n]}}\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package org.example.network;
+
+import org.example.driver.Drivers;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Records every request a Chromium browser makes through the DevTools Network domain and streams
+ * it to a HAR file. Only request and response metadata is kept while a request is in flight;
+ * bodies are never fetched, so memory stays proportional to the number of open requests.
+ *
+ * Raw CDP events are used instead of a versioned devtools binding, so the recorder keeps working
+ * when Chrome moves past the CDP versions bundled with Selenium.
+ */
+public class NetworkRecorder implements AutoCloseable {
+
+    private static final int SUMMARY_LIMIT = 5;  // Slowest and largest resources kept for the report
+
+    private final DevTools devTools;
+    private final HarWriter har;
+    private final NetworkSummary summary = new NetworkSummary(SUMMARY_LIMIT);
+    private final ConcurrentMap<String, PendingRequest> pending = new ConcurrentHashMap<>();
+    private volatile boolean stopped;  // Read by DevTools event threads
+
+    private NetworkRecorder(DevTools devTools, Path harFile) {
+        this.devTools = devTools;
+        this.har = new HarWriter(harFile);
+    }
+
+    /**
+     * Method to start recording the network traffic of a browser.
+     * @param driver The driver, possibly wrapped; it must be a Chromium browser.
+     * @param harFile The HAR file to stream entries to.
+     * @return The running recorder; call {@link #stop()} to finish the HAR file.
+     * @throws IllegalArgumentException If the browser does not support DevTools.
+     */
+    public static NetworkRecorder start(WebDriver driver, Path harFile) {
+        WebDriver unwrapped = Drivers.unwrap(driver);
+        if (!(unwrapped instanceof HasDevTools)) {
+            throw new IllegalArgumentException("Network capture needs a DevTools browser, got "
+                    + unwrapped.getClass().getSimpleName());
+        }
+        DevTools devTools = ((HasDevTools) unwrapped).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+
+        NetworkRecorder recorder = new NetworkRecorder(devTools, harFile);
+        recorder.listen("Network.requestWillBeSent", recorder::onRequest);
+        recorder.listen("Network.responseReceived", recorder::onResponse);
+        recorder.listen("Network.loadingFinished", recorder::onFinished);
+        recorder.listen("Network.loadingFailed", recorder::onFailed);
+        // Body buffers are only needed for Network.getResponseBody, which the recorder never calls
+        devTools.send(new Command<Void>("Network.enable", Map.of("maxTotalBufferSize", 0, "maxResourceBufferSize", 0)));
+        return recorder;
+    }
+
+    /**
+     * Method to stop recording and complete the HAR file.
+     * Requests still in flight are dropped, since they have no response to report.
+     * @return The summary of all completed and failed requests.
+     */
+    public synchronized NetworkSummary stop() {
+        if (!stopped) {
+            stopped = true;
+            try {
+                devTools.send(new Command<Void>("Network.disable", Map.of()));
+            } finally {
+                devTools.clearListeners();
+                pending.clear();
+                har.close();
+            }
+        }
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void listen(String method, Consumer<Map<String, Object>> handler) {
+        devTools.addListener(new Event<Map<String, Object>>(method, input -> input.read(Json.MAP_TYPE)), handler);
+    }
+
+    private void onRequest(Map<String, Object> event) {
+        String requestId = (String) event.get("requestId");
+        PendingRequest previous = pending.remove(requestId);
+        if (previous != null && event.get("redirectResponse") != null) {
+            // A redirect reuses the request id; the hop that just ended becomes its own entry
+            previous.response = map(event, "redirectResponse");
+            complete(previous, number(event, "timestamp"), number(previous.response, "encodedDataLength"), null);
+        }
+        pending.put(requestId, new PendingRequest(map(event, "request"), number(event, "wallTime"), number(event, "timestamp")));
+    }
+
+    private void onResponse(Map<String, Object> event) {
+        PendingRequest request = pending.get((String) event.get("requestId"));
+        if (request != null) {
+            request.response = map(event, "response");
+        }
+    }
+
+    private void onFinished(Map<String, Object> event) {
+        PendingRequest request = pending.remove((String) event.get("requestId"));
+        if (request != null) {
+            complete(request, number(event, "timestamp"), number(event, "encodedDataLength"), null);
+        }
+    }
+
+    private void onFailed(Map<String, Object> event) {
+        PendingRequest request = pending.remove((String) event.get("requestId"));
+        if (request != null) {
+            complete(request, number(event, "timestamp"), 0, (String) event.get("errorText"));
+        }
+    }
+
+    /**
+     * Converts a finished request into a HAR entry, writes it and adds it to the summary.
+     */
+    private void complete(PendingRequest request, double endTimestamp, double transferred, String error) {
+        if (stopped) {
+            return; // An event that raced with stop(); the HAR file is already complete
+        }
+        Map<String, Object> response = request.response != null ? request.response : Map.of();
+        String url = (String) request.request.get("url");
+        String method = (String) request.request.get("method");
+        int status = (int) number(response, "status");
+        String mimeType = response.get("mimeType") != null ? (String) response.get("mimeType") : "";
+        double totalMs = Math.max(0, (endTimestamp - request.timestamp) * 1000);
+        long bytes = Math.round(transferred);
+
+        Map<String, Object> harRequest = new LinkedHashMap<>();
+        harRequest.put("method", method);
+        harRequest.put("url", url);
+        harRequest.put("httpVersion", protocol(response));
+        harRequest.put("cookies", List.of());
+        harRequest.put("headers", headers(map(request.request, "headers")));
+        harRequest.put("queryString", List.of());
+        harRequest.put("headersSize", -1);
+        harRequest.put("bodySize", -1);
+
+        Map<String, Object> harResponse = new LinkedHashMap<>();
+        harResponse.put("status", status);
+        harResponse.put("statusText", response.get("statusText") != null ? response.get("statusText") : "");
+        harResponse.put("httpVersion", protocol(response));
+        harResponse.put("cookies", List.of());
+        harResponse.put("headers", headers(map(response, "headers")));
+        harResponse.put("content", Map.of("size", -1, "mimeType", mimeType));
+        harResponse.put("redirectURL", "");
+        harResponse.put("headersSize", -1);
+        harResponse.put("bodySize", -1);
+        harResponse.put("_transferSize", bytes);
+        if (error != null) {
+            harResponse.put("_error", error);
+        }
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("startedDateTime", Instant.ofEpochMilli(Math.round(request.wallTime * 1000)).toString());
+        entry.put("time", totalMs);
+        entry.put("request", harRequest);
+        entry.put("response", harResponse);
+        entry.put("cache", Map.of());
+        entry.put("timings", timings(map(response, "timing"), totalMs));
+
+        har.write(entry);
+        summary.add(new ResourceTiming(url, method, status, mimeType, totalMs, bytes, error));
+    }
+
+    /**
+     * Maps the CDP ResourceTiming (milliseconds relative to requestTime, -1 when a phase did not
+     * happen) to the HAR timing phases.
+     */
+    private static Map<String, Object> timings(Map<String, Object> timing, double totalMs) {
+        Map<String, Object> phases = new LinkedHashMap<>();
+        if (timing.isEmpty()) {
+            // Served without a network round trip (cache, data: URL) or failed before a response
+            phases.put("send", 0);
+            phases.put("wait", totalMs);
+            phases.put("receive", 0);
+            return phases;
+        }
+        double sendEnd = number(timing, "sendEnd");
+        double headersEnd = number(timing, "receiveHeadersEnd");
+        double dnsStart = number(timing, "dnsStart");
+        double connectStart = number(timing, "connectStart");
+        phases.put("blocked", firstPhaseStart(dnsStart, connectStart, number(timing, "sendStart")));
+        phases.put("dns", phase(dnsStart, number(timing, "dnsEnd")));
+        phases.put("connect", phase(connectStart, number(timing, "connectEnd")));
+        phases.put("ssl", phase(number(timing, "sslStart"), number(timing, "sslEnd")));
+        phases.put("send", Math.max(0, sendEnd - number(timing, "sendStart")));
+        phases.put("wait", Math.max(0, headersEnd - sendEnd));
+        // The total starts at requestWillBeSent, just before requestTime, so receive also absorbs that gap
+        phases.put("receive", Math.max(0, totalMs - headersEnd));
+        return phases;
+    }
+
+    private static double firstPhaseStart(double... starts) {
+        for (double start : starts) {
+            if (start >= 0) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static double phase(double start, double end) {
+        return start >= 0 && end >= 0 ? end - start : -1;
+    }
+
+    private static String protocol(Map<String, Object> response) {
+        Object protocol = response.get("protocol");
+        return protocol != null ? ((String) protocol).toUpperCase() : "";
+    }
+
+    private static List<Map<String, Object>> headers(Map<String, Object> headers) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        headers.forEach((name, value) -> list.add(Map.of("name", name, "value", String.valueOf(value))));
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Map<String, Object> source, String key) {
+        Object value = source.get(key);
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static double number(Map<String, Object> source, String key) {
+        Object value = source.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    /**
+     * Metadata of a request that has been sent but not yet finished.
+     */
+    private static class PendingRequest {
+        private final Map<String, Object> request;
+        private final double wallTime;   // Seconds since the epoch
+        private final double timestamp;  // Monotonic seconds, comparable with later events
+        private volatile Map<String, Object> response;
+
+        private PendingRequest(Map<String, Object> request, double wallTime, double timestamp) {
+            this.request = request;
+            this.wallTime = wallTime;
+            this.timestamp = timestamp;
+        }
+    }
+}
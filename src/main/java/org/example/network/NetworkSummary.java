@@ -0,0 +1,85 @@
+package org.example.network;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded summary of a network capture: totals plus the slowest and largest resources.
+ * Only the top entries are kept, so the summary stays small no matter how many requests a test makes.
+ */
+public class NetworkSummary {
+
+    private final int limit;
+    private final PriorityQueue<ResourceTiming> slowest = new PriorityQueue<>(Comparator.comparingDouble(ResourceTiming::durationMs));
+    private final PriorityQueue<ResourceTiming> largest = new PriorityQueue<>(Comparator.comparingLong(ResourceTiming::bytes));
+    private int requests;
+    private int failures;
+    private long totalBytes;
+
+    /**
+     * Constructor to create an empty summary.
+     * @param limit How many of the slowest and largest resources to keep.
+     */
+    public NetworkSummary(int limit) {
+        this.limit = limit;
+    }
+
+    synchronized void add(ResourceTiming resource) {
+        requests++;
+        failures += resource.error() != null ? 1 : 0;
+        totalBytes += resource.bytes();
+        keepTop(slowest, resource);
+        keepTop(largest, resource);
+    }
+
+    public synchronized int getRequests() {
+        return requests;
+    }
+
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @return The slowest resources, slowest first.
+     */
+    public synchronized List<ResourceTiming> getSlowest() {
+        return sortedDescending(slowest, Comparator.comparingDouble(ResourceTiming::durationMs));
+    }
+
+    /**
+     * @return The largest resources, largest first.
+     */
+    public synchronized List<ResourceTiming> getLargest() {
+        return sortedDescending(largest, Comparator.comparingLong(ResourceTiming::bytes));
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder text = new StringBuilder(String.format("%d requests, %d failed, %d bytes", requests, failures, totalBytes));
+        text.append("\nSlowest:");
+        getSlowest().forEach(resource -> text.append("\n  ").append(resource));
+        text.append("\nLargest:");
+        getLargest().forEach(resource -> text.append("\n  ").append(resource));
+        return text.toString();
+    }
+
+    private void keepTop(PriorityQueue<ResourceTiming> top, ResourceTiming resource) {
+        top.add(resource);
+        if (top.size() > limit) {
+            top.poll(); // The queue head is the smallest, drop it
+        }
+    }
+
+    private static List<ResourceTiming> sortedDescending(PriorityQueue<ResourceTiming> top, Comparator<ResourceTiming> order) {
+        List<ResourceTiming> sorted = new ArrayList<>(top);
+        sorted.sort(order.reversed());
+        return sorted;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.network;
+
+/**
+ * One completed (or failed) network request, as captured by {@link NetworkRecorder}.
+ * @param url The request URL.
+ * @param method The HTTP method.
+ * @param status The response status, or 0 if the request failed before a response.
+ * @param mimeType The response MIME type.
+ * @param durationMs Milliseconds from sending the request until the last byte arrived.
+ * @param bytes The encoded bytes transferred, including headers.
+ * @param error The failure reason, or null for completed requests.
+ */
+public record ResourceTiming(String url, String method, int status, String mimeType, double durationMs, long bytes,
+                             String error) {
+
+    @Override
+    public String toString() {
+        return String.format("%s %s -> %s %.1f ms %d B", method, url, error != null ? error : status, durationMs, bytes);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.pages;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The browser state that makes a user logged in: cookies plus local and session storage,
+ * and the page the login landed on. A session is captured once after a real UI login and can then
+ * be injected into any other browser on the same site, which skips typing credentials and the
+ * login page transition for tests that are about what happens after login.
+ * @param cookies The cookies of the site after login.
+ * @param localStorage The local storage entries after login.
+ * @param sessionStorage The session storage entries after login.
+ * @param landingUrl The URL the login landed on, e.g. inventory.html.
+ */
+public record AuthenticatedSession(Set<Cookie> cookies, Map<String, String> localStorage,
+                                   Map<String, String> sessionStorage, String landingUrl) {
+
+    // Sessions by base URL, username and password hash, shared by every test thread of the JVM
+    private static final ConcurrentMap<String, AuthenticatedSession> CACHE = new ConcurrentHashMap<>();
+
+    // How often LoginPage.loginWithSession had to log in through the UI, and how often it reused a cached session
+    private static final AtomicInteger UI_LOGINS = new AtomicInteger();
+    private static final AtomicInteger REUSES = new AtomicInteger();
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var read = function (s) { var r = {}; for (var i = 0; i < s.length; i++) { r[s.key(i)] = s.getItem(s.key(i)); } return r; };"
+            + "return [read(window.localStorage), read(window.sessionStorage)];";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];"
+            + "Object.keys(local).forEach(function (k) { window.localStorage.setItem(k, local[k]); });"
+            + "Object.keys(session).forEach(function (k) { window.sessionStorage.setItem(k, session[k]); });";
+
+    /**
+     * Method to capture the login state of a browser that has just logged in.
+     * @param driver The logged-in browser, still on the site.
+     * @return The captured session.
+     */
+    @SuppressWarnings("unchecked")
+    public static AuthenticatedSession capture(WebDriver driver) {
+        List<Map<String, String>> storage = (List<Map<String, String>>)
+                ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+        return new AuthenticatedSession(Set.copyOf(driver.manage().getCookies()), Map.copyOf(storage.get(0)),
+                Map.copyOf(storage.get(1)), driver.getCurrentUrl());
+    }
+
+    /**
+     * Method to look up a cached session.
+     * @param baseUrl The site the session belongs to.
+     * @param username The user.
+     * @param password The password the session must have been captured with.
+     * @return The session, or null if the user has not logged in through the UI with this password yet.
+     */
+    public static AuthenticatedSession cached(String baseUrl, String username, String password) {
+        return CACHE.get(key(baseUrl, username, password));
+    }
+
+    /**
+     * Method to remember a session for later tests.
+     * @param baseUrl The site the session belongs to.
+     * @param username The user.
+     * @param password The password the user logged in with.
+     * @param session The captured session.
+     */
+    public static void cache(String baseUrl, String username, String password, AuthenticatedSession session) {
+        CACHE.put(key(baseUrl, username, password), session);
+    }
+
+    /**
+     * Method to forget a session, e.g. when the site no longer accepts it.
+     * @param baseUrl The site the session belongs to.
+     * @param username The user.
+     * @param password The password the user logged in with.
+     */
+    public static void evict(String baseUrl, String username, String password) {
+        CACHE.remove(key(baseUrl, username, password));
+    }
+
+    /**
+     * Method to get how many sessions were captured through a UI login in this JVM.
+     * @return The number of UI logins done by LoginPage.loginWithSession.
+     */
+    public static int uiLogins() {
+        return UI_LOGINS.get();
+    }
+
+    /**
+     * Method to get how many logins were replaced by injecting a cached session in this JVM.
+     * @return The number of cache hits of LoginPage.loginWithSession.
+     */
+    public static int reuses() {
+        return REUSES.get();
+    }
+
+    static void countUiLogin() {
+        UI_LOGINS.incrementAndGet();
+    }
+
+    static void countReuse() {
+        REUSES.incrementAndGet();
+    }
+
+    /**
+     * Keys sessions by the credentials that produced them, so a wrong password never gets a cached login.
+     * The password is hashed so the cache never holds it in clear text.
+     */
+    private static String key(String baseUrl, String username, String password) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+            return baseUrl + "|" + username + "|" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Method to copy this session into a browser. The browser must already be on the site,
+     * since cookies and storage can only be set for the current origin.
+     * @param driver The browser to log in.
+     */
+    public void injectInto(WebDriver driver) {
+        for (Cookie cookie : cookies) {
+            // Without a domain the cookie is set for the current host, which also works for localhost
+            driver.manage().addCookie(new Cookie.Builder(cookie.getName(), cookie.getValue())
+                    .path(cookie.getPath())
+                    .expiresOn(cookie.getExpiry())
+                    .isSecure(cookie.isSecure())
+                    .isHttpOnly(cookie.isHttpOnly())
+                    .sameSite(cookie.getSameSite())
+                    .build());
+        }
+        if (!localStorage.isEmpty() || !sessionStorage.isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, localStorage, sessionStorage);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.pages;
+
+import org.openqa.selenium.Rectangle;
+
+import java.util.Map;
+
+/**
+ * Immutable state of a single page element captured by {@link LoginPage#snapshot()}.
+ * @param present True if the element exists in the DOM.
+ * @param displayed True if the element is rendered with a non-empty box and is not hidden.
+ * @param enabled True if the element is not disabled.
+ * @param text The rendered text of the element.
+ * @param attributes The captured attributes that are set on the element.
+ * @param rect The bounding box of the element in CSS pixels.
+ */
+public record ElementState(boolean present, boolean displayed, boolean enabled, String text,
+                           Map<String, String> attributes, Rectangle rect) {
+
+    static final ElementState MISSING = new ElementState(false, false, false, "", Map.of(), new Rectangle(0, 0, 0, 0));
+
+    public ElementState {
+        attributes = Map.copyOf(attributes);
+    }
+
+    /**
+     * Method to get a captured attribute.
+     * @param name The attribute name, e.g. "type" or "placeholder".
+     * @return The attribute value, or null if it is not set.
+     */
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A lazily resolved handle to a page element.
+ * The element is looked up on first use and cached, so a page object resolves each locator
+ * at most once per page load. When the cached reference goes stale (the page re-rendered or
+ * navigated), the element is re-resolved once and the action is retried.
+ */
+public class LazyElement {
+
+    private final SearchContext context;
+    private final By locator;
+    private WebElement element;
+
+    /**
+     * Constructor to create an unresolved handle.
+     * @param context The driver or parent element to search from.
+     * @param locator The locator of the element.
+     */
+    public LazyElement(SearchContext context, By locator) {
+        this.context = context;
+        this.locator = locator;
+    }
+
+    /**
+     * Method to get the element, resolving it on first use.
+     * @return The cached WebElement.
+     */
+    public WebElement get() {
+        if (element == null) {
+            element = context.findElement(locator);
+        }
+        return element;
+    }
+
+    /**
+     * Method to run an action against the element, re-resolving it once if it went stale.
+     * @param action The action to perform; it may run twice, so it should be idempotent.
+     * @param <T> The result type.
+     * @return The result of the action.
+     */
+    public <T> T apply(Function<WebElement, T> action) {
+        try {
+            return action.apply(get());
+        } catch (StaleElementReferenceException e) {
+            element = null;
+            return action.apply(get());
+        }
+    }
+
+    /**
+     * Method to run an action without a result against the element.
+     * @param action The action to perform; it may run twice, so it should be idempotent.
+     */
+    public void run(Consumer<WebElement> action) {
+        apply(element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    /**
+     * Method to drop the cached element, e.g. after navigating to a new page.
+     */
+    public void reset() {
+        element = null;
+    }
+
+    /**
+     * @return The locator this handle resolves.
+     */
+    public By locator() {
+        return locator;
+    }
+}
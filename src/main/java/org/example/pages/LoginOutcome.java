@@ -0,0 +1,19 @@
+package org.example.pages;
+
+/**
+ * The possible results of a login attempt, as detected by {@link LoginPage#attemptLogin(String, String)}.
+ */
+public enum LoginOutcome {
+
+    /** The inventory page was reached. */
+    SUCCESS,
+
+    /** The error banner reported that the user is locked out. */
+    LOCKED_OUT,
+
+    /** The error banner reported any other problem, such as a wrong password or a missing field. */
+    INVALID_CREDENTIALS,
+
+    /** Neither the inventory page nor the error banner appeared within the timeout. */
+    TIMEOUT
+}
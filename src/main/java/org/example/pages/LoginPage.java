@@ -1,17 +1,33 @@
 package org.example.pages;
 
+import org.example.performance.PageTimings;
+import org.example.selection.TestInputs;
+import org.example.utils.ConfigReader;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * This class models the Login Page of the Saucedemo website.
  * Page Object Model (POM) is used to enhance maintainability and scalability.
  * It encapsulates all the actions and elements of the login page.
+ *
+ * A LoginPage is confined to the thread that created it, which guarantees that
+ * parallel tests never drive the same WebDriver through a shared page object.
  */
 public class LoginPage {
 
-    private WebDriver driver;
+    private final WebDriver driver;
+    private final Thread owner;  // The only thread allowed to use this page object
 
     // Locators for the login page elements
     private By usernameField = By.id("user-name");  // Username input field
@@ -19,12 +35,95 @@ public class LoginPage {
     private By loginButton = By.id("login-button");  // Login button
     private By errorMessage = By.cssSelector(".error-message-container");  // Error message element
 
+    // Lazy handles for the locators above, resolved at most once per page load
+    private final LazyElement usernameElement;
+    private final LazyElement passwordElement;
+    private final LazyElement loginButtonElement;
+    private final LazyElement errorMessageElement;
+
+    private PageTimings timings;  // Optional browser-side timing recorder, see recordTimings()
+
+    // Attributes captured for every element by snapshot()
+    private static final List<String> SNAPSHOT_ATTRIBUTES = List.of(
+            "id", "name", "type", "placeholder", "value", "class", "style", "data-test");
+
+    // Collects the state of all elements in the browser so the snapshot costs a single round trip
+    private static final String SNAPSHOT_SCRIPT = PageScripts.FIND_FUNCTION + PageScripts.DISPLAYED_FUNCTION
+            + "var locators = arguments[0], names = arguments[1], result = {};"
+            + "Object.keys(locators).forEach(function (key) {"
+            + "  var el = find(locators[key]);"
+            + "  if (!el) { result[key] = null; return; }"
+            + "  var rect = el.getBoundingClientRect(), attrs = {};"
+            + "  names.forEach(function (n) { var v = el.getAttribute(n); if (v !== null) { attrs[n] = v; } });"
+            + "  result[key] = {"
+            + "    displayed: displayed(el),"
+            + "    enabled: !el.disabled,"
+            + "    text: (el.innerText || '').trim(),"
+            + "    attributes: attrs,"
+            + "    x: rect.x, y: rect.y, width: rect.width, height: rect.height"
+            + "  };"
+            + "});"
+            + "return result;";
+
+    // The race between the inventory page and the error banner, re-evaluated in the page on every DOM change
+    private static final PageCondition<String> OUTCOME = PageCondition.of("the inventory page or an error message",
+            "if (window.location.href.indexOf('inventory.html') >= 0"
+            + "    && document.querySelector('.inventory_container')) { return 'success'; }"
+            + "var banner = document.querySelector('.error-message-container');"
+            + "var text = banner ? (banner.innerText || '').trim() : '';"
+            + "if (text && banner.getClientRects().length > 0) { return 'error:' + text; }"
+            + "return null;",
+            null,
+            LoginPage::outcomeOf);
+
+    // Fills both credentials through the native value setter (so framework listeners see the change) and submits
+    private static final String FAST_LOGIN_SCRIPT = PageScripts.FIND_FUNCTION
+            + "var setter = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;"
+            + "[[find(arguments[0]), arguments[3]], [find(arguments[1]), arguments[4]]].forEach(function (field) {"
+            + "  setter.call(field[0], field[1]);"
+            + "  field[0].dispatchEvent(new Event('input', { bubbles: true }));"
+            + "  field[0].dispatchEvent(new Event('change', { bubbles: true }));"
+            + "});"
+            + "find(arguments[2]).click();";
+
     /**
      * Constructor to initialize the driver.
      * @param driver The WebDriver instance to interact with the browser.
      */
     public LoginPage(WebDriver driver) {
         this.driver = driver;
+        this.owner = Thread.currentThread();
+        this.usernameElement = new LazyElement(driver, usernameField);
+        this.passwordElement = new LazyElement(driver, passwordField);
+        this.loginButtonElement = new LazyElement(driver, loginButton);
+        this.errorMessageElement = new LazyElement(driver, errorMessage);
+    }
+
+    /**
+     * Method to start recording browser-side timings for every transition of this page object.
+     * @return The recorder, whose steps are named "open" and "login".
+     */
+    public PageTimings recordTimings() {
+        checkThread();
+        if (timings == null) {
+            timings = new PageTimings(driver);
+        }
+        return timings;
+    }
+
+    /**
+     * Method to navigate to the login page of the configured site.
+     */
+    public void open() {
+        checkThread();
+        long start = System.nanoTime();
+        driver.get(ConfigReader.getInstance().getBaseUrl());
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - start);
+
+        resetElements();
+        if (timings != null) {
+            timings.capture("open", wallTime);
+        }
     }
 
     /**
@@ -33,14 +132,110 @@ public class LoginPage {
      * @param password The password for login.
      */
     public void login(String username, String password) {
-        // Clear the username and password fields and input new values
-        driver.findElement(usernameField).clear();
-        driver.findElement(usernameField).sendKeys(username);
-        driver.findElement(passwordField).clear();
-        driver.findElement(passwordField).sendKeys(password);
+        checkThread();
+        enterCredentials(username, password);
 
         // Click the login button
-        driver.findElement(loginButton).click();
+        loginButtonElement.run(WebElement::click);
+    }
+
+    /**
+     * Method to log in and wait for whichever outcome happens first, using the configured wait timeout.
+     * @param username The username for login.
+     * @param password The password for login.
+     * @return The outcome and the time it took to appear.
+     */
+    public LoginResult attemptLogin(String username, String password) {
+        return attemptLogin(username, password, ConfigReader.getInstance().getWaitTimeout());
+    }
+
+    /**
+     * Method to log in and race the success condition (inventory page) against the failure
+     * condition (error banner) in a single event-driven wait, so a failed login is reported as soon as
+     * the banner shows instead of after the full success timeout.
+     * @param username The username for login.
+     * @param password The password for login.
+     * @param timeout How long to wait for either outcome.
+     * @return The outcome and the time from clicking login until it appeared.
+     */
+    public LoginResult attemptLogin(String username, String password, Duration timeout) {
+        checkThread();
+        enterCredentials(username, password);
+
+        long start = System.nanoTime();
+        loginButtonElement.run(WebElement::click);
+
+        String state;
+        try {
+            state = new PageWait(driver, timeout).until(OUTCOME);  // One async script per document instead of a poll every few ms
+        } catch (TimeoutException e) {
+            return new LoginResult(LoginOutcome.TIMEOUT, Duration.ofNanos(System.nanoTime() - start), "");
+        }
+        Duration latency = Duration.ofNanos(System.nanoTime() - start);
+        if (timings != null) {
+            timings.capture("login", latency);
+        }
+
+        if (state.equals("success")) {
+            return new LoginResult(LoginOutcome.SUCCESS, latency, "");
+        }
+        String errorText = state.substring("error:".length());
+        LoginOutcome outcome = errorText.contains("locked out") ? LoginOutcome.LOCKED_OUT : LoginOutcome.INVALID_CREDENTIALS;
+        return new LoginResult(outcome, latency, errorText);
+    }
+
+    /**
+     * Method to reach the page behind the login without using the login form, when possible.
+     * The first call per user and password logs in through the UI and caches the resulting cookies and storage;
+     * later calls, from any thread, inject that session and navigate straight to the landing page.
+     * A cached session the site no longer accepts is dropped and the UI login is repeated.
+     * Use it in tests that are about the pages after login, not the login form itself.
+     * @param username The username for login.
+     * @param password The password for login.
+     * @return The outcome; the latency covers the injection and navigation, or the UI login.
+     */
+    public LoginResult loginWithSession(String username, String password) {
+        checkThread();
+        String baseUrl = ConfigReader.getInstance().getBaseUrl();
+        AuthenticatedSession session = AuthenticatedSession.cached(baseUrl, username, password);
+        if (session != null) {
+            long start = System.nanoTime();
+            if (!driver.getCurrentUrl().startsWith(baseUrl)) {
+                open(); // Cookies can only be set for the current origin
+            }
+            session.injectInto(driver);
+            driver.get(session.landingUrl());
+            resetElements();
+            if (driver.getCurrentUrl().equals(session.landingUrl())) {
+                AuthenticatedSession.countReuse();
+                return new LoginResult(LoginOutcome.SUCCESS, Duration.ofNanos(System.nanoTime() - start), "");
+            }
+            AuthenticatedSession.evict(baseUrl, username, password); // Redirected away, so the session has expired
+            driver.manage().deleteAllCookies();
+        }
+
+        if (!driver.getCurrentUrl().equals(baseUrl)) {
+            open();
+        }
+        LoginResult result = attemptLogin(username, password);
+        if (result.isSuccess()) {
+            AuthenticatedSession.countUiLogin();
+            AuthenticatedSession.cache(baseUrl, username, password, AuthenticatedSession.capture(driver));
+        }
+        return result;
+    }
+
+    /**
+     * Method to perform login with one scripted call instead of typing.
+     * Sets both credentials and submits the form in a single round trip; use it in tests
+     * that are not about keyboard input behavior.
+     * @param username The username for login.
+     * @param password The password for login.
+     */
+    public void fastLogin(String username, String password) {
+        checkThread();
+        ((JavascriptExecutor) driver).executeScript(FAST_LOGIN_SCRIPT, PageScripts.toRemoteLocator(usernameField),
+                PageScripts.toRemoteLocator(passwordField), PageScripts.toRemoteLocator(loginButton), username, password);
     }
 
     /**
@@ -48,7 +243,97 @@ public class LoginPage {
      * @return True if the error message is displayed, else false.
      */
     public boolean isErrorMessageDisplayed() {
-        WebElement errorElement = driver.findElement(errorMessage);
-        return errorElement.isDisplayed();
+        checkThread();
+        return errorMessageElement.apply(WebElement::isDisplayed);
+    }
+
+    /**
+     * Method to capture the visibility, enabled state, attributes, text and bounding box
+     * of every login page element with one executeScript call.
+     * @return An immutable snapshot for assertions.
+     */
+    @SuppressWarnings("unchecked")
+    public LoginPageSnapshot snapshot() {
+        checkThread();
+
+        Map<String, By> locators = new LinkedHashMap<>();
+        locators.put("username", usernameField);
+        locators.put("password", passwordField);
+        locators.put("loginButton", loginButton);
+        locators.put("errorMessage", errorMessage);
+
+        Map<String, Object> remoteLocators = new LinkedHashMap<>();
+        locators.forEach((name, locator) -> remoteLocators.put(name, PageScripts.toRemoteLocator(locator)));
+
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(SNAPSHOT_SCRIPT, remoteLocators, SNAPSHOT_ATTRIBUTES);
+
+        Map<String, ElementState> elements = new HashMap<>();
+        for (String name : locators.keySet()) {
+            Map<String, Object> state = (Map<String, Object>) raw.get(name);
+            if (state == null) {
+                elements.put(name, ElementState.MISSING);
+                continue;
+            }
+            Rectangle rect = new Rectangle(toInt(state.get("x")), toInt(state.get("y")),
+                    toInt(state.get("height")), toInt(state.get("width")));
+            elements.put(name, new ElementState(true, (Boolean) state.get("displayed"), (Boolean) state.get("enabled"),
+                    (String) state.get("text"), (Map<String, String>) state.get("attributes"), rect));
+        }
+        return new LoginPageSnapshot(elements);
+    }
+
+    /**
+     * The outcome race through WebDriver commands, for browsers that cannot run scripts.
+     */
+    private static String outcomeOf(WebDriver driver) {
+        if (driver.getCurrentUrl().contains("inventory.html") && !driver.findElements(By.className("inventory_container")).isEmpty()) {
+            return "success";
+        }
+        List<WebElement> banners = driver.findElements(By.cssSelector(".error-message-container"));
+        if (banners.isEmpty() || !banners.get(0).isDisplayed()) {
+            return null;
+        }
+        String text = banners.get(0).getText().trim();
+        return text.isEmpty() ? null : "error:" + text;
+    }
+
+    private static int toInt(Object number) {
+        return (int) Math.round(((Number) number).doubleValue());
+    }
+
+    /**
+     * A new document was loaded, so cached element handles are no longer valid.
+     */
+    private void resetElements() {
+        usernameElement.reset();
+        passwordElement.reset();
+        loginButtonElement.reset();
+        errorMessageElement.reset();
+    }
+
+    /**
+     * Clears the username and password fields and types the new values.
+     */
+    private void enterCredentials(String username, String password) {
+        usernameElement.run(field -> {
+            field.clear();
+            field.sendKeys(username);
+        });
+        passwordElement.run(field -> {
+            field.clear();
+            field.sendKeys(password);
+        });
+    }
+
+    /**
+     * Fails fast when the page object leaks into another thread.
+     */
+    private void checkThread() {
+        TestInputs.pageObject(LoginPage.class); // Every public method passes through here, so this records the use of the page
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("LoginPage created on " + owner.getName()
+                    + " cannot be used from " + Thread.currentThread().getName());
+        }
     }
 }
@@ -0,0 +1,58 @@
+package org.example.pages;
+
+import java.util.Map;
+
+/**
+ * Immutable view of every login page element, captured in a single WebDriver round trip.
+ * Use it for UI assertions instead of calling isDisplayed, isEnabled and getAttribute per element.
+ */
+public final class LoginPageSnapshot {
+
+    private final Map<String, ElementState> elements;
+
+    LoginPageSnapshot(Map<String, ElementState> elements) {
+        this.elements = Map.copyOf(elements);
+    }
+
+    /**
+     * @return The state of the username input field.
+     */
+    public ElementState username() {
+        return element("username");
+    }
+
+    /**
+     * @return The state of the password input field.
+     */
+    public ElementState password() {
+        return element("password");
+    }
+
+    /**
+     * @return The state of the login button.
+     */
+    public ElementState loginButton() {
+        return element("loginButton");
+    }
+
+    /**
+     * @return The state of the error message container.
+     */
+    public ElementState errorMessage() {
+        return element("errorMessage");
+    }
+
+    /**
+     * Method to get an element state by its name in the page object.
+     * @param name The element name.
+     * @return The captured state, or a "not present" state if the element was not found.
+     */
+    public ElementState element(String name) {
+        return elements.getOrDefault(name, ElementState.MISSING);
+    }
+
+    @Override
+    public String toString() {
+        return "LoginPageSnapshot" + elements;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.pages;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a login attempt together with how long it took to be decided.
+ * @param outcome The detected outcome.
+ * @param latency The time from clicking the login button until the outcome was observed.
+ * @param errorText The text of the error banner, or an empty string when no error was shown.
+ */
+public record LoginResult(LoginOutcome outcome, Duration latency, String errorText) {
+
+    /**
+     * @return True if the inventory page was reached.
+     */
+    public boolean isSuccess() {
+        return outcome == LoginOutcome.SUCCESS;
+    }
+}
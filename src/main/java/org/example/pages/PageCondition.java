@@ -0,0 +1,110 @@
+package org.example.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A condition a {@link PageWait} blocks on.
+ * It is written twice: as a script body that is re-evaluated inside the page whenever the DOM or
+ * the URL changes, and as a WebDriver check that is polled when the browser cannot run scripts.
+ * Both return null while the condition does not hold and the awaited value once it does.
+ * @param <T> The type of the awaited value.
+ */
+public final class PageCondition<T> {
+
+    private final String description;
+    private final String check;     // Body of check(arg), evaluated in the page
+    private final Object argument;  // Passed to the check as arg
+    private final Function<WebDriver, T> fallback;
+
+    private PageCondition(String description, String check, Object argument, Function<WebDriver, T> fallback) {
+        this.description = description;
+        this.check = check;
+        this.argument = argument;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Method to wait for an element to be present and displayed.
+     * @param locator The locator of the element.
+     * @return A condition whose value is the visible element.
+     */
+    public static PageCondition<WebElement> visible(By locator) {
+        return new PageCondition<>("visibility of " + locator,
+                "var el = find(arg); return displayed(el) ? el : null;",
+                PageScripts.toRemoteLocator(locator),
+                driver -> {
+                    List<WebElement> elements = driver.findElements(locator);
+                    return !elements.isEmpty() && elements.get(0).isDisplayed() ? elements.get(0) : null;
+                });
+    }
+
+    /**
+     * Method to wait for an element to be hidden or removed from the page.
+     * @param locator The locator of the element.
+     * @return A condition whose value is true once the element is gone.
+     */
+    public static PageCondition<Boolean> hidden(By locator) {
+        return new PageCondition<>("invisibility of " + locator,
+                "return displayed(find(arg)) ? null : true;",
+                PageScripts.toRemoteLocator(locator),
+                driver -> {
+                    List<WebElement> elements = driver.findElements(locator);
+                    return elements.isEmpty() || !elements.get(0).isDisplayed() ? Boolean.TRUE : null;
+                });
+    }
+
+    /**
+     * Method to wait for the current URL to contain a fragment.
+     * @param fragment The text the URL must contain.
+     * @return A condition whose value is the matching URL.
+     */
+    public static PageCondition<String> urlContains(String fragment) {
+        return new PageCondition<>("URL to contain \"" + fragment + "\"",
+                "return window.location.href.indexOf(arg) >= 0 ? window.location.href : null;",
+                fragment,
+                driver -> {
+                    String url = driver.getCurrentUrl();
+                    return url.contains(fragment) ? url : null;
+                });
+    }
+
+    /**
+     * Method to wait for a custom condition.
+     * @param description What is waited for, used in the timeout message.
+     * @param check A script body that may use find(locator), displayed(element) and arg, and returns
+     *              null until the condition holds.
+     * @param argument The value the script sees as arg; locators must already be converted.
+     * @param fallback The same check through WebDriver commands, for browsers that cannot run scripts.
+     * @param <T> The type of the awaited value.
+     * @return The condition.
+     */
+    public static <T> PageCondition<T> of(String description, String check, Object argument, Function<WebDriver, T> fallback) {
+        return new PageCondition<>(description, check, argument, fallback);
+    }
+
+    String description() {
+        return description;
+    }
+
+    String check() {
+        return check;
+    }
+
+    Object argument() {
+        return argument;
+    }
+
+    Function<WebDriver, T> fallback() {
+        return fallback;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.Map;
+
+/**
+ * JavaScript fragments shared by the page objects and waits that evaluate locators inside the page.
+ */
+final class PageScripts {
+
+    // Resolves a locator produced by toRemoteLocator() inside the page
+    static final String FIND_FUNCTION =
+            "function find(l) {"
+            + "  switch (l.using) {"
+            + "    case 'id': return document.getElementById(l.value);"
+            + "    case 'name': return document.getElementsByName(l.value)[0];"
+            + "    case 'class name': return document.getElementsByClassName(l.value)[0];"
+            + "    case 'xpath': return document.evaluate(l.value, document, null, 9, null).singleNodeValue;"
+            + "    default: return document.querySelector(l.value);"
+            + "  }"
+            + "}";
+
+    // The same visibility rules as WebElement.isDisplayed() for the elements of this site
+    static final String DISPLAYED_FUNCTION =
+            "function displayed(el) {"
+            + "  if (!el) { return false; }"
+            + "  var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();"
+            + "  return el.getClientRects().length > 0 && rect.width > 0 && rect.height > 0"
+            + "      && style.visibility !== 'hidden' && style.display !== 'none' && style.opacity !== '0';"
+            + "}";
+
+    private PageScripts() {
+    }
+
+    /**
+     * Converts a locator into the strategy/value pair that FIND_FUNCTION resolves in the page.
+     */
+    static Map<String, Object> toRemoteLocator(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be resolved inside the page: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return Map.of("using", parameters.using(), "value", parameters.value());
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+
+/**
+ * Waits for page conditions without polling over the wire.
+ * A single asynchronous script installs a MutationObserver and URL-change listeners in the page and
+ * only calls back once the condition holds, so a wait costs one round trip instead of one per poll
+ * and reacts as soon as the DOM changes. A navigation unloads the script; the wait then re-arms
+ * itself on the new document. Browsers that cannot run scripts are polled instead.
+ */
+public class PageWait {
+
+    // Upper bound for one async script, kept well below the default 30 s script timeout of a session
+    private static final Duration MAX_SLICE = Duration.ofSeconds(5);
+    private static final Duration MIN_SLICE = Duration.ofMillis(250);
+
+    // Interval of the fallback polling when scripts are unavailable
+    private static final Duration POLLING = Duration.ofMillis(100);
+
+    // Arguments: timeout in ms, the condition argument, the callback. Evaluates check(arg) now and after every
+    // DOM mutation or URL change, plus a cheap in-page backstop for changes no mutation reports (layout, image loads)
+    private static final String WAIT_SCRIPT = PageScripts.FIND_FUNCTION + PageScripts.DISPLAYED_FUNCTION
+            + "var timeout = arguments[0], arg = arguments[1], done = arguments[arguments.length - 1];"
+            + "function evaluate() { try { return check(arg); } catch (e) { return null; } }"
+            + "var value = evaluate();"
+            + "if (value != null) { done(value); return; }"
+            + "var finished = false, observer, timer, backstop;"
+            + "function settle(result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true;"
+            + "  observer.disconnect(); clearTimeout(timer); clearInterval(backstop);"
+            + "  window.removeEventListener('popstate', changed); window.removeEventListener('hashchange', changed);"
+            + "  done(result);"
+            + "}"
+            + "function changed() { var v = evaluate(); if (v != null) { settle(v); } }"
+            + "observer = new MutationObserver(changed);"
+            + "observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });"
+            + "window.addEventListener('popstate', changed); window.addEventListener('hashchange', changed);"
+            + "backstop = setInterval(changed, 100);"
+            + "timer = setTimeout(function () { settle(null); }, timeout);";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private boolean scripted;  // Cleared once the browser refuses to run scripts
+
+    /**
+     * Constructor to create a wait.
+     * @param driver The WebDriver instance to interact with the browser.
+     * @param timeout How long each call waits before failing.
+     */
+    public PageWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.scripted = driver instanceof JavascriptExecutor;
+    }
+
+    /**
+     * Method to wait until an element is displayed.
+     * @param locator The locator of the element.
+     * @return The visible element.
+     * @throws TimeoutException If the element is not visible in time.
+     */
+    public WebElement untilVisible(By locator) {
+        return until(PageCondition.visible(locator));
+    }
+
+    /**
+     * Method to wait until an element is hidden or removed.
+     * @param locator The locator of the element.
+     * @throws TimeoutException If the element is still visible when the time is up.
+     */
+    public void untilHidden(By locator) {
+        until(PageCondition.hidden(locator));
+    }
+
+    /**
+     * Method to wait until the current URL contains a fragment.
+     * @param fragment The text the URL must contain.
+     * @return The matching URL.
+     * @throws TimeoutException If no matching URL is reached in time.
+     */
+    public String untilUrlContains(String fragment) {
+        return until(PageCondition.urlContains(fragment));
+    }
+
+    /**
+     * Method to block until a condition holds.
+     * @param condition The condition to wait for.
+     * @param <T> The type of the awaited value.
+     * @return The value the condition produced.
+     * @throws TimeoutException If the condition does not hold in time.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T until(PageCondition<T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        String script = "function check(arg) {" + condition.check() + "}" + WAIT_SCRIPT;
+        long slice = MAX_SLICE.toMillis();
+
+        while (scripted) {
+            long remaining = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (remaining <= 0) {
+                throw timedOut(condition, start);
+            }
+            try {
+                Object value = ((JavascriptExecutor) driver).executeAsyncScript(script, Math.min(slice, remaining), condition.argument());
+                if (value != null) {
+                    return (T) value;
+                }
+            } catch (ScriptTimeoutException e) {
+                slice = Math.max(MIN_SLICE.toMillis(), slice / 2);  // The session allows less time per script than a slice
+            } catch (JavascriptException | StaleElementReferenceException e) {
+                // The document was unloaded while waiting, so arm the observer again on the new one
+            } catch (UnsupportedCommandException | UnsupportedOperationException e) {
+                scripted = false;
+            }
+        }
+
+        Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        try {
+            return new FluentWait<>(driver)
+                    .withTimeout(remaining)
+                    .pollingEvery(POLLING)
+                    .ignoring(NoSuchElementException.class)
+                    .ignoring(StaleElementReferenceException.class)
+                    .until(condition.fallback());
+        } catch (TimeoutException e) {
+            throw timedOut(condition, start);
+        }
+    }
+
+    private static TimeoutException timedOut(PageCondition<?> condition, long start) {
+        return new TimeoutException("Expected condition failed: waiting for " + condition.description()
+                + " (tried for " + Duration.ofNanos(System.nanoTime() - start).toMillis() + " ms)");
+    }
+}
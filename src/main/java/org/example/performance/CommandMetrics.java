@@ -0,0 +1,183 @@
+package org.example.performance;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide registry of WebDriver command counts and latencies.
+ * Commands are aggregated per test and per page object method. The test running on the current
+ * thread is set by the test harness through {@link #beginTest(String)} and {@link #endTest()}.
+ */
+public final class CommandMetrics {
+
+    /** Scope used for commands issued outside of any test, such as pool health checks. */
+    public static final String NO_TEST = "(harness)";
+
+    private static final ConcurrentMap<String, ConcurrentMap<String, CommandStats>> BY_TEST = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ConcurrentMap<String, CommandStats>> BY_PAGE_METHOD = new ConcurrentHashMap<>();
+    private static final ThreadLocal<TestCommands> CURRENT_TEST = new ThreadLocal<>();
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Method to attribute the commands issued by the calling thread to a test.
+     * @param testName The test name, e.g. "LoginTests.testLoginPageUI".
+     */
+    public static void beginTest(String testName) {
+        CURRENT_TEST.set(new TestCommands(testName));
+    }
+
+    /**
+     * Method to stop attributing commands of the calling thread to its test.
+     * @return The commands of the test invocation that just ended, or null if none was running.
+     */
+    public static TestCommands endTest() {
+        TestCommands current = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        return current;
+    }
+
+    /**
+     * Method to record one completed command.
+     * @param command The command name, e.g. "findElement".
+     * @param pageMethod The page object method that issued it, or null.
+     * @param nanos How long the command took.
+     */
+    static void record(String command, String pageMethod, long nanos) {
+        TestCommands current = CURRENT_TEST.get();
+        String test = NO_TEST;
+        if (current != null) {
+            current.count++;
+            current.totalNanos += nanos;
+            test = current.testName;
+        }
+        stats(BY_TEST, test, command).record(nanos);
+        if (pageMethod != null) {
+            stats(BY_PAGE_METHOD, pageMethod, command).record(nanos);
+        }
+    }
+
+    /**
+     * @return Command statistics per test, keyed by test name and then command.
+     */
+    public static Map<String, Map<String, CommandStats>> byTest() {
+        return snapshot(BY_TEST);
+    }
+
+    /**
+     * @return Command statistics per page object method, keyed by "Class.method" and then command.
+     */
+    public static Map<String, Map<String, CommandStats>> byPageMethod() {
+        return snapshot(BY_PAGE_METHOD);
+    }
+
+    /**
+     * Method to write every statistic as CSV, one row per scope and command.
+     * @param file The file to write.
+     */
+    public static void writeCsv(Path file) {
+        StringBuilder csv = new StringBuilder("scope,name,command,count,total_ms,mean_ms,max_ms\n");
+        rows().forEach(row -> csv.append(String.join(",", row.values().stream().map(String::valueOf).toList())).append('\n'));
+        write(file, csv.toString());
+    }
+
+    /**
+     * Method to write every statistic as a JSON array, one object per scope and command.
+     * @param file The file to write.
+     */
+    public static void writeJson(Path file) {
+        write(file, new Json().toJson(rows()));
+    }
+
+    /**
+     * Method to discard every statistic, e.g. between suites.
+     */
+    public static void reset() {
+        BY_TEST.clear();
+        BY_PAGE_METHOD.clear();
+    }
+
+    private static List<Map<String, Object>> rows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        addRows(rows, "test", byTest());
+        addRows(rows, "page", byPageMethod());
+        return rows;
+    }
+
+    private static void addRows(List<Map<String, Object>> rows, String scope, Map<String, Map<String, CommandStats>> stats) {
+        stats.forEach((name, commands) -> commands.forEach((command, stat) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("scope", scope);
+            row.put("name", name);
+            row.put("command", command);
+            row.put("count", stat.getCount());
+            row.put("totalMs", stat.getTotalNanos() / 1_000_000.0);
+            row.put("meanMs", stat.getMeanNanos() / 1_000_000.0);
+            row.put("maxMs", stat.getMaxNanos() / 1_000_000.0);
+            rows.add(row);
+        }));
+    }
+
+    private static CommandStats stats(ConcurrentMap<String, ConcurrentMap<String, CommandStats>> scopes,
+                                      String scope, String command) {
+        return scopes.computeIfAbsent(scope, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(command, key -> new CommandStats());
+    }
+
+    private static Map<String, Map<String, CommandStats>> snapshot(ConcurrentMap<String, ConcurrentMap<String, CommandStats>> scopes) {
+        Map<String, Map<String, CommandStats>> copy = new TreeMap<>();
+        scopes.forEach((scope, commands) -> copy.put(scope, new TreeMap<>(commands)));
+        return copy;
+    }
+
+    private static void write(Path file, String content) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(content);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write command metrics to " + file, e);
+        }
+    }
+
+    /**
+     * Command totals of a single test invocation, used for budget checks.
+     */
+    public static final class TestCommands {
+
+        private final String testName;
+        private long count;
+        private long totalNanos;
+
+        private TestCommands(String testName) {
+            this.testName = testName;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.performance;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe count and timing totals for one WebDriver command within one scope.
+ */
+public class CommandStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @return The mean duration of the command in nanoseconds.
+     */
+    public long getMeanNanos() {
+        long calls = getCount();
+        return calls == 0 ? 0 : getTotalNanos() / calls;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.performance;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * WebDriver listener that times every command issued through a decorated driver, including
+ * element, navigation and option calls, and reports them to {@link CommandMetrics}.
+ * Install it with {@code new EventFiringDecorator<>(new CommandTimingListener()).decorate(driver)}.
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    private static final String PAGES_PACKAGE = "org.example.pages.";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    // Start times of the calls in flight on this thread; calls can nest, e.g. a wait polling findElement
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        Long start = startTimes.get().poll();
+        if (start != null) {
+            CommandMetrics.record(method.getName(), callingPageMethod(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Finds the outermost page object method of the innermost page object call on the stack,
+     * e.g. "LoginPage.attemptLogin" rather than the LazyElement or private helper it went through.
+     */
+    private static String callingPageMethod() {
+        return STACK_WALKER.walk(frames -> {
+            String pageMethod = null;
+            Iterator<StackWalker.StackFrame> iterator = frames.iterator();
+            while (iterator.hasNext()) {
+                StackWalker.StackFrame frame = iterator.next();
+                boolean inPages = frame.getClassName().startsWith(PAGES_PACKAGE);
+                if (!inPages && pageMethod != null) {
+                    break; // Left the page object layer, the last page frame seen is the entry point
+                }
+                if (inPages && !frame.getMethodName().startsWith("lambda$")) {
+                    pageMethod = frame.getClassName().substring(PAGES_PACKAGE.length()) + "." + frame.getMethodName();
+                }
+            }
+            return pageMethod;
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.performance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable set of upper limits for browser-side timings that tests can assert against.
+ * <pre>
+ *     LatencyBudget.none().limit(TimingMetric.TTFB, Duration.ofMillis(500)).assertWithin(step);
+ * </pre>
+ */
+public final class LatencyBudget {
+
+    private final Map<TimingMetric, Duration> limits;
+
+    private LatencyBudget(Map<TimingMetric, Duration> limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * @return A budget without limits.
+     */
+    public static LatencyBudget none() {
+        return new LatencyBudget(Collections.emptyMap());
+    }
+
+    /**
+     * Method to add or replace the limit of a metric.
+     * @param metric The metric to limit.
+     * @param max The largest acceptable value.
+     * @return A new budget including the limit.
+     */
+    public LatencyBudget limit(TimingMetric metric, Duration max) {
+        Map<TimingMetric, Duration> copy = new EnumMap<>(TimingMetric.class);
+        copy.putAll(limits);
+        copy.put(metric, max);
+        return new LatencyBudget(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Method to list every limit the step exceeded. A limited metric the step did not record is a violation too,
+     * since a budget that cannot be checked would otherwise pass silently.
+     * @param timing The recorded step.
+     * @return Human-readable violations; empty if the step is within budget.
+     */
+    public List<String> violations(StepTiming timing) {
+        List<String> violations = new ArrayList<>();
+        limits.forEach((metric, max) -> {
+            Duration actual = timing.get(metric);
+            if (actual == null) {
+                violations.add(timing.step() + ": " + metric + " was not recorded, budget is " + max.toMillis() + " ms");
+            } else if (actual.compareTo(max) > 0) {
+                violations.add(timing.step() + ": " + metric + " took " + actual.toMillis()
+                        + " ms, budget is " + max.toMillis() + " ms");
+            }
+        });
+        return violations;
+    }
+
+    /**
+     * Method to fail when the step exceeded any limit.
+     * @param timing The recorded step.
+     * @throws AssertionError Listing every violation.
+     */
+    public void assertWithin(StepTiming timing) {
+        List<String> violations = violations(timing);
+        if (!violations.isEmpty()) {
+            throw new AssertionError(String.join("; ", violations));
+        }
+    }
+}
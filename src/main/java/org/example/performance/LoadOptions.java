@@ -0,0 +1,40 @@
+package org.example.performance;
+
+import org.example.utils.ConfigReader;
+
+import java.time.Duration;
+
+/**
+ * Settings of a concurrent login load run.
+ * @param sessions The number of concurrent browser sessions.
+ * @param duration How long to generate load; ignored when iterations is positive.
+ * @param iterations The total number of login flows across all sessions, or 0 to run for the duration.
+ * @param pacing The intended time between two iterations of one session. A positive pacing makes the
+ *               run open-loop, so latency is measured from the intended start and stalls are not hidden
+ *               (coordinated-omission correction). Zero runs the iterations back to back.
+ * @param username The user that logs in.
+ * @param password The password of the user.
+ */
+public record LoadOptions(int sessions, Duration duration, long iterations, Duration pacing,
+                          String username, String password) {
+
+    public LoadOptions {
+        if (sessions < 1) {
+            throw new IllegalArgumentException("At least one session is required.");
+        }
+        if (iterations < 0 || (iterations == 0 && (duration == null || duration.isZero() || duration.isNegative()))) {
+            throw new IllegalArgumentException("Either a positive iteration count or a positive duration is required.");
+        }
+    }
+
+    /**
+     * Method to read the load settings from config.properties.
+     * @param configReader The configuration snapshot.
+     * @return The configured options.
+     */
+    public static LoadOptions fromConfig(ConfigReader configReader) {
+        return new LoadOptions(configReader.getLoadSessions(), configReader.getLoadDuration(),
+                configReader.getLoadIterations(), configReader.getLoadPacing(),
+                configReader.getUsername(), configReader.getPassword());
+    }
+}
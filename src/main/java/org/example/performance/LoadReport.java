@@ -0,0 +1,103 @@
+package org.example.performance;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+
+/**
+ * The result of a load run: throughput, error rate and latency percentiles.
+ * Latencies are recorded in microseconds. {@link #latency(double)} is corrected for coordinated
+ * omission (measured from the intended start of each iteration), while {@link #serviceTime(double)}
+ * is the raw time each iteration took once it actually started.
+ */
+public final class LoadReport {
+
+    private final int sessions;
+    private final long iterations;
+    private final long errors;
+    private final Duration elapsed;
+    private final Histogram latency;
+    private final Histogram serviceTime;
+
+    LoadReport(int sessions, long iterations, long errors, Duration elapsed, Histogram latency, Histogram serviceTime) {
+        this.sessions = sessions;
+        this.iterations = iterations;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        this.latency = latency.copy();
+        this.serviceTime = serviceTime.copy();
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return Completed login flows per second.
+     */
+    public double getThroughput() {
+        return elapsed.isZero() ? 0 : iterations * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    /**
+     * @return The fraction of iterations that failed, between 0 and 1.
+     */
+    public double getErrorRate() {
+        return iterations == 0 ? 0 : (double) errors / iterations;
+    }
+
+    /**
+     * Method to get a latency percentile corrected for coordinated omission.
+     * @param percentile The percentile, e.g. 99.0.
+     * @return The latency at that percentile.
+     */
+    public Duration latency(double percentile) {
+        return Duration.ofNanos(latency.getValueAtPercentile(percentile) * 1000);
+    }
+
+    /**
+     * Method to get a percentile of the uncorrected service time.
+     * @param percentile The percentile, e.g. 99.0.
+     * @return The service time at that percentile.
+     */
+    public Duration serviceTime(double percentile) {
+        return Duration.ofNanos(serviceTime.getValueAtPercentile(percentile) * 1000);
+    }
+
+    /**
+     * @return The slowest corrected latency.
+     */
+    public Duration maxLatency() {
+        return Duration.ofNanos(latency.getMaxValue() * 1000);
+    }
+
+    /**
+     * Method to print the full corrected latency distribution in milliseconds.
+     * @param out The stream to print to.
+     */
+    public void printDistribution(PrintStream out) {
+        latency.outputPercentileDistribution(out, 1000.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("sessions=%d iterations=%d errors=%d (%.2f%%) throughput=%.2f/s "
+                        + "p50=%dms p90=%dms p99=%dms max=%dms (uncorrected p99=%dms)",
+                sessions, iterations, errors, getErrorRate() * 100, getThroughput(),
+                latency(50).toMillis(), latency(90).toMillis(), latency(99).toMillis(), maxLatency().toMillis(),
+                serviceTime(99).toMillis());
+    }
+}
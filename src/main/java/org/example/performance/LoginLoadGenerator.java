@@ -0,0 +1,199 @@
+package org.example.performance;
+
+import org.HdrHistogram.Histogram;
+import org.example.pages.LoginPage;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Drives the login flow (open the login page, log in, wait for the outcome) from many
+ * concurrent browser sessions and reports throughput, error rate and latency percentiles.
+ *
+ * Each session runs on its own virtual thread. All sessions start their browsers first and
+ * then begin measuring together, so browser startup never shows up as login latency. If any
+ * session fails to get ready, the whole run is aborted rather than measured short-handed.
+ */
+public class LoginLoadGenerator {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Supplier<WebDriver> driverFactory;
+    private final LoadOptions options;
+    private final Duration loginTimeout;
+
+    /**
+     * Constructor to prepare a load run.
+     * @param driverFactory Creates one browser per session.
+     * @param options The load settings.
+     * @param loginTimeout How long a single login may take before it counts as an error.
+     */
+    public LoginLoadGenerator(Supplier<WebDriver> driverFactory, LoadOptions options, Duration loginTimeout) {
+        this.driverFactory = driverFactory;
+        this.options = options;
+        this.loginTimeout = loginTimeout;
+    }
+
+    /**
+     * Method to run the load and block until every session is done.
+     * @return The aggregated report.
+     */
+    public LoadReport run() {
+        Start start = new Start(options.sessions());
+        AtomicLong remaining = new AtomicLong(options.iterations());
+
+        List<Future<SessionResult>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.sessions(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> runSession(index, start, remaining)));
+            }
+        } // Closing the executor waits for all sessions to finish
+
+        Histogram latency = new Histogram(SIGNIFICANT_DIGITS);
+        Histogram serviceTime = new Histogram(SIGNIFICANT_DIGITS);
+        long iterations = 0;
+        long errors = 0;
+        long endNanos = start.nanos.get();
+        for (Future<SessionResult> future : futures) {
+            SessionResult result = join(future);
+            latency.add(result.latency);
+            serviceTime.add(result.serviceTime);
+            iterations += result.iterations;
+            errors += result.errors;
+            endNanos = Math.max(endNanos, result.endNanos);
+        }
+        // Up to the last session's last login, so quitting the browsers does not count towards throughput
+        Duration elapsed = Duration.ofNanos(endNanos - start.nanos.get());
+        return new LoadReport(options.sessions(), iterations, errors, elapsed, latency, serviceTime);
+    }
+
+    private SessionResult runSession(int index, Start start, AtomicLong remaining) throws InterruptedException {
+        SessionResult result = new SessionResult();
+        WebDriver driver = null;
+        boolean started = false;
+        try {
+            driver = driverFactory.get();
+            LoginPage loginPage = new LoginPage(driver); // Created on this virtual thread, which owns it
+            loginPage.open();
+            started = true;
+            long startNanos = start.await();
+
+            long pacing = options.pacing().toNanos();
+            long first = startNanos + pacing * index / options.sessions(); // Stagger sessions across the interval
+            long deadline = options.iterations() > 0 ? Long.MAX_VALUE : startNanos + options.duration().toNanos();
+
+            for (long i = 0; ; i++) {
+                long intended = pacing > 0 ? first + i * pacing : System.nanoTime();
+                if (intended >= deadline || (options.iterations() > 0 && remaining.getAndDecrement() <= 0)) {
+                    break;
+                }
+                parkUntil(intended);
+
+                long actualStart = System.nanoTime();
+                boolean success;
+                try {
+                    driver.manage().deleteAllCookies(); // Log out so every iteration starts from the login page
+                    loginPage.open();
+                    success = loginPage.attemptLogin(options.username(), options.password(), loginTimeout).isSuccess();
+                } catch (WebDriverException e) {
+                    success = false;
+                }
+                long end = System.nanoTime();
+
+                result.iterations++;
+                result.errors += success ? 0 : 1;
+                result.serviceTime.recordValue((end - actualStart) / 1000);
+                // Measuring from the intended start counts the time an iteration was held up by a slow predecessor
+                result.latency.recordValue((end - intended) / 1000);
+            }
+            result.endNanos = System.nanoTime();
+        } catch (RuntimeException e) {
+            if (!started) {
+                start.abort(e); // Release the other sessions instead of leaving them waiting for this one
+            }
+            throw e;
+        } finally {
+            if (driver != null) {
+                driver.quit();
+            }
+        }
+        return result;
+    }
+
+    private static void parkUntil(long nanoTime) {
+        long wait;
+        while ((wait = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private static SessionResult join(Future<SessionResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a load session.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A load session failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * The common start of all sessions. Unlike a barrier it cannot be re-armed: once a session fails to
+     * get ready, every session waiting now or arriving later is released and aborts.
+     */
+    private static class Start {
+        private final CountDownLatch ready;
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        Start(int sessions) {
+            this.ready = new CountDownLatch(sessions);
+        }
+
+        /**
+         * Waits until every session is ready and returns the common start time.
+         */
+        long await() throws InterruptedException {
+            ready.countDown();
+            ready.await();
+            if (failure.get() != null) {
+                throw new IllegalStateException("Load run aborted because another session failed to start: "
+                        + failure.get().getMessage(), failure.get());
+            }
+            nanos.compareAndSet(0, System.nanoTime()); // The first session released sets the start for everyone
+            return nanos.get();
+        }
+
+        void abort(RuntimeException e) {
+            failure.compareAndSet(null, e);
+            while (ready.getCount() > 0) {
+                ready.countDown();
+            }
+        }
+    }
+
+    /**
+     * Per-session counters, merged once all sessions are done so recording needs no locking.
+     */
+    private static class SessionResult {
+        private final Histogram latency = new Histogram(SIGNIFICANT_DIGITS);
+        private final Histogram serviceTime = new Histogram(SIGNIFICANT_DIGITS);
+        private long iterations;
+        private long errors;
+        private long endNanos;  // When the session finished its last iteration, before its browser was quit
+    }
+}
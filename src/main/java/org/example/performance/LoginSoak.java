@@ -0,0 +1,74 @@
+package org.example.performance;
+
+import org.example.pages.LoginPage;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the login cycle (open the login page, log in, reach the inventory, reset the session) thousands
+ * of times in one browser session and samples browser and JVM memory along the way, so leaks in the
+ * site or the harness show up as a growing series instead of as a crash in a long production session.
+ */
+public class LoginSoak {
+
+    // Clears what the site keeps besides cookies, such as the cart, so every cycle starts logged out and empty
+    private static final String RESET_SCRIPT = "window.localStorage.clear(); window.sessionStorage.clear();";
+
+    private final WebDriver driver;
+    private final SoakOptions options;
+    private final Duration loginTimeout;
+
+    /**
+     * Constructor to prepare a soak run.
+     * @param driver The browser session to soak; it is not closed by the run.
+     * @param options The soak settings.
+     * @param loginTimeout How long a single login may take before the cycle counts as failed.
+     */
+    public LoginSoak(WebDriver driver, SoakOptions options, Duration loginTimeout) {
+        this.driver = driver;
+        this.options = options;
+        this.loginTimeout = loginTimeout;
+    }
+
+    /**
+     * Method to run all cycles and block until they are done.
+     * @return The memory time series and its trends.
+     */
+    public SoakReport run() {
+        LoginPage loginPage = new LoginPage(driver);
+        MemorySampler sampler = new MemorySampler(driver);
+        List<MemorySample> samples = new ArrayList<>();
+        long failures = 0;
+
+        long start = System.nanoTime();
+        if (options.warmupCycles() == 0) {
+            samples.add(sampler.sample(0, Duration.ZERO)); // Baseline before the first cycle
+        }
+        for (long cycle = 1; cycle <= options.cycles(); cycle++) {
+            failures += runCycle(loginPage) ? 0 : 1;
+            long sinceWarmup = cycle - options.warmupCycles();
+            if (sinceWarmup >= 0 && sinceWarmup % options.sampleEvery() == 0) {
+                samples.add(sampler.sample(cycle, Duration.ofNanos(System.nanoTime() - start)));
+            }
+        }
+        return new SoakReport(options.cycles(), failures, Duration.ofNanos(System.nanoTime() - start),
+                options.alpha(), samples);
+    }
+
+    private boolean runCycle(LoginPage loginPage) {
+        try {
+            loginPage.open();
+            boolean success = loginPage.attemptLogin(options.username(), options.password(), loginTimeout).isSuccess();
+            ((JavascriptExecutor) driver).executeScript(RESET_SCRIPT);
+            driver.manage().deleteAllCookies(); // Log out so the next cycle starts from the login page
+            return success;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+}
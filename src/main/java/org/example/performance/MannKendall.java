@@ -0,0 +1,96 @@
+package org.example.performance;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Mann-Kendall test for a monotonic trend in a time series.
+ * It only looks at the sign of every pairwise difference, so it is not fooled by a single outlier or by
+ * growth that is steady but not linear, which suits noisy memory samples. Sen's slope is reported
+ * alongside as a robust estimate of how fast the series grows.
+ */
+public final class MannKendall {
+
+    // Below this many samples the normal approximation of S is too coarse to trust
+    public static final int MIN_SAMPLES = 8;
+
+    private MannKendall() {
+    }
+
+    /**
+     * The outcome of the test.
+     * @param samples The number of values tested.
+     * @param s The Mann-Kendall statistic: concordant minus discordant pairs.
+     * @param z The normalized statistic, continuity corrected.
+     * @param pIncreasing The one-sided p-value of an increasing trend.
+     * @param slope Sen's slope, the median change per sample.
+     */
+    public record Trend(int samples, long s, double z, double pIncreasing, double slope) {
+
+        /**
+         * Method to check whether the series grows significantly.
+         * @param alpha The significance level, e.g. 0.01.
+         * @return True if there are enough samples and an increasing trend is significant at alpha.
+         */
+        public boolean isIncreasing(double alpha) {
+            return samples >= MIN_SAMPLES && s > 0 && pIncreasing < alpha;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d S=%d z=%.2f p=%.4f slope=%.1f/sample", samples, s, z, pIncreasing, slope);
+        }
+    }
+
+    /**
+     * Method to test a series for a monotonic trend.
+     * @param series The values in time order.
+     * @return The test outcome; fewer than two values never show a trend.
+     */
+    public static Trend test(double[] series) {
+        int n = series.length;
+        if (n < 2) {
+            return new Trend(n, 0, 0, 1, 0);
+        }
+
+        long s = 0;
+        double[] slopes = new double[n * (n - 1) / 2];
+        int k = 0;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                s += Integer.signum(Double.compare(series[j], series[i]));
+                slopes[k++] = (series[j] - series[i]) / (j - i);
+            }
+        }
+
+        // Variance of S under the no-trend hypothesis, corrected for groups of tied values
+        double variance = n * (n - 1.0) * (2 * n + 5);
+        Map<Double, Integer> ties = new HashMap<>();
+        for (double value : series) {
+            ties.merge(value, 1, Integer::sum);
+        }
+        for (int t : ties.values()) {
+            variance -= t * (t - 1.0) * (2 * t + 5);
+        }
+        variance /= 18;
+
+        double z = variance <= 0 || s == 0 ? 0 : (s - Math.signum(s)) / Math.sqrt(variance);
+        Arrays.sort(slopes);
+        double slope = slopes.length % 2 == 1 ? slopes[slopes.length / 2]
+                : (slopes[slopes.length / 2 - 1] + slopes[slopes.length / 2]) / 2;
+        return new Trend(n, s, z, 1 - normalCdf(z), slope);
+    }
+
+    /**
+     * The standard normal distribution function, from the Abramowitz and Stegun approximation of erf
+     * (absolute error below 1.5e-7).
+     */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))))
+                * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
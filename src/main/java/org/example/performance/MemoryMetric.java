@@ -0,0 +1,32 @@
+package org.example.performance;
+
+/**
+ * Memory figures sampled during a soak run.
+ */
+public enum MemoryMetric {
+
+    /** Used JavaScript heap of the page in bytes, from CDP Performance.getMetrics (Chrome only). */
+    JS_HEAP_USED("JSHeapUsedSize"),
+
+    /** DOM nodes alive in the renderer, from CDP Performance.getMetrics (Chrome only). */
+    DOM_NODES("Nodes"),
+
+    /** Registered JavaScript event listeners, from CDP Performance.getMetrics (Chrome only). */
+    JS_EVENT_LISTENERS("JSEventListeners"),
+
+    /** Used heap of the harness JVM in bytes. */
+    JVM_HEAP_USED(null);
+
+    private final String cdpName;
+
+    MemoryMetric(String cdpName) {
+        this.cdpName = cdpName;
+    }
+
+    /**
+     * @return The name of the metric in Performance.getMetrics, or null if it is not a browser metric.
+     */
+    public String cdpName() {
+        return cdpName;
+    }
+}
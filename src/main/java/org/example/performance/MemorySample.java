@@ -0,0 +1,26 @@
+package org.example.performance;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The memory figures of one point in a soak run.
+ * @param cycle The number of login cycles completed when the sample was taken.
+ * @param elapsed The time since the soak run started.
+ * @param values The sampled metrics; browser metrics are missing when the browser does not speak CDP.
+ */
+public record MemorySample(long cycle, Duration elapsed, Map<MemoryMetric, Long> values) {
+
+    public MemorySample {
+        values = Map.copyOf(values);
+    }
+
+    /**
+     * Method to get one metric of the sample.
+     * @param metric The metric.
+     * @return The value, or -1 if it was not sampled.
+     */
+    public long get(MemoryMetric metric) {
+        return values.getOrDefault(metric, -1L);
+    }
+}
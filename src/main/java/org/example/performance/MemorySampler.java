@@ -0,0 +1,69 @@
+package org.example.performance;
+
+import org.example.driver.Drivers;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Samples the memory of a browser session and of the harness JVM.
+ * Both heaps are garbage collected right before each sample, so the series shows retained memory
+ * rather than how much garbage happened to be waiting for the collector.
+ */
+public class MemorySampler {
+
+    private final WebDriver driver;
+    private final MemoryMXBean jvm = ManagementFactory.getMemoryMXBean();
+    private boolean cdpAvailable;
+
+    /**
+     * Constructor to start sampling a browser session.
+     * @param driver The WebDriver whose renderer is sampled.
+     */
+    public MemorySampler(WebDriver driver) {
+        this.driver = driver;
+        try {
+            Drivers.executeCdp(driver, "Performance.enable", Map.of()).ifPresent(ignored -> cdpAvailable = true);
+        } catch (WebDriverException e) {
+            cdpAvailable = false; // Remote or non-Chromium session, only the JVM heap is sampled
+        }
+    }
+
+    /**
+     * Method to take one sample.
+     * @param cycle The number of cycles completed so far.
+     * @param elapsed The time since the run started.
+     * @return The sample.
+     */
+    @SuppressWarnings("unchecked")
+    public MemorySample sample(long cycle, Duration elapsed) {
+        Map<MemoryMetric, Long> values = new EnumMap<>(MemoryMetric.class);
+        if (cdpAvailable) {
+            Drivers.executeCdp(driver, "HeapProfiler.collectGarbage", Map.of());
+            Map<String, Object> result = Drivers.executeCdp(driver, "Performance.getMetrics", Map.of()).orElse(Map.of());
+            for (Map<String, Object> metric : (List<Map<String, Object>>) result.getOrDefault("metrics", List.of())) {
+                for (MemoryMetric memoryMetric : MemoryMetric.values()) {
+                    if (metric.get("name").equals(memoryMetric.cdpName())) {
+                        values.put(memoryMetric, ((Number) metric.get("value")).longValue());
+                    }
+                }
+            }
+        }
+        jvm.gc();
+        values.put(MemoryMetric.JVM_HEAP_USED, jvm.getHeapMemoryUsage().getUsed());
+        return new MemorySample(cycle, elapsed, values);
+    }
+
+    /**
+     * @return True if browser metrics are sampled, false if only the JVM heap is.
+     */
+    public boolean isBrowserSampled() {
+        return cdpAvailable;
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.performance;
+
+import org.example.driver.Drivers;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records browser-side timings after each page transition.
+ * Navigation Timing and Resource Timing are read from the page itself, and on Chrome the
+ * script execution time comes from CDP Performance.getMetrics. Unlike measuring around
+ * WebDriver calls, these numbers exclude wire latency and polling granularity, so real
+ * application slowness can be told apart from harness overhead.
+ */
+public class PageTimings {
+
+    // Reads the navigation entry and the resources fetched since the previous capture
+    private static final String TIMING_SCRIPT =
+            "var sameDocument = performance.timeOrigin === arguments[0];"
+            + "var resources = performance.getEntriesByType('resource');"
+            + "var fresh = resources.slice(sameDocument ? arguments[1] : 0), bytes = 0;"
+            + "fresh.forEach(function (r) { bytes += r.transferSize || 0; });"
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "return {"
+            + "  url: window.location.href, timeOrigin: performance.timeOrigin, navigated: !sameDocument,"
+            + "  resourceTotal: resources.length, resourceCount: fresh.length, transferBytes: bytes,"
+            + "  nav: nav ? {"
+            + "    dns: nav.domainLookupEnd - nav.domainLookupStart,"
+            + "    ttfb: nav.responseStart - nav.startTime,"
+            + "    dcl: nav.domContentLoadedEventEnd - nav.startTime,"
+            + "    load: nav.loadEventEnd - nav.startTime"
+            + "  } : null"
+            + "};";
+
+    private final WebDriver driver;
+    private final List<StepTiming> steps = new ArrayList<>();
+
+    private double timeOrigin = -1;   // Identifies the current document, so navigations can be detected
+    private long resourceOffset;      // Resources already attributed to earlier steps of this document
+    private double scriptSeconds;     // Last cumulative CDP ScriptDuration
+    private boolean cdpAvailable;
+
+    /**
+     * Constructor to start recording for a browser session.
+     * @param driver The WebDriver whose pages are measured.
+     */
+    public PageTimings(WebDriver driver) {
+        this.driver = driver;
+        try {
+            Drivers.executeCdp(driver, "Performance.enable", Map.of()).ifPresent(ignored -> cdpAvailable = true);
+            if (cdpAvailable) {
+                scriptSeconds = readScriptSeconds();
+            }
+        } catch (WebDriverException e) {
+            cdpAvailable = false; // Remote or non-Chromium session, navigation timing still works
+        }
+    }
+
+    /**
+     * Method to record the timings of a transition that just completed.
+     * @param step The name of the step.
+     * @return The recorded timings.
+     */
+    public StepTiming capture(String step) {
+        return capture(step, null);
+    }
+
+    /**
+     * Method to record the timings of a transition that just completed.
+     * @param step The name of the step.
+     * @param wallTime The time the test observed for the step, used to derive harness overhead; may be null.
+     * @return The recorded timings.
+     */
+    @SuppressWarnings("unchecked")
+    public StepTiming capture(String step, Duration wallTime) {
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(TIMING_SCRIPT, timeOrigin, resourceOffset);
+
+        boolean navigated = (Boolean) raw.get("navigated");
+        timeOrigin = ((Number) raw.get("timeOrigin")).doubleValue();
+        resourceOffset = ((Number) raw.get("resourceTotal")).longValue();
+
+        Map<TimingMetric, Duration> metrics = new EnumMap<>(TimingMetric.class);
+        Map<String, Object> nav = (Map<String, Object>) raw.get("nav");
+        if (navigated && nav != null) {
+            putPositive(metrics, TimingMetric.DNS, nav.get("dns"));
+            putPositive(metrics, TimingMetric.TTFB, nav.get("ttfb"));
+            putPositive(metrics, TimingMetric.DOM_CONTENT_LOADED, nav.get("dcl"));
+            putPositive(metrics, TimingMetric.LOAD, nav.get("load"));
+            // The test sees the step as done once the DOM is ready; anything above that was spent in the harness
+            Duration browserTime = metrics.get(TimingMetric.DOM_CONTENT_LOADED);
+            if (wallTime != null && browserTime != null) {
+                metrics.put(TimingMetric.HARNESS_OVERHEAD, wallTime.minus(browserTime).isNegative()
+                        ? Duration.ZERO : wallTime.minus(browserTime));
+            }
+        }
+        if (cdpAvailable) {
+            double current = readScriptSeconds();
+            double delta = current >= scriptSeconds ? current - scriptSeconds : current; // Counter resets with the renderer
+            scriptSeconds = current;
+            metrics.put(TimingMetric.SCRIPT, Duration.ofNanos((long) (delta * 1_000_000_000L)));
+        }
+
+        StepTiming timing = new StepTiming(step, (String) raw.get("url"), navigated, metrics,
+                ((Number) raw.get("resourceCount")).intValue(), ((Number) raw.get("transferBytes")).longValue());
+        steps.add(timing);
+        return timing;
+    }
+
+    /**
+     * @return Every step recorded so far, in order.
+     */
+    public List<StepTiming> steps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * Method to get the most recent step with the given name.
+     * @param step The step name.
+     * @return The timings, or null if the step was not recorded.
+     */
+    public StepTiming last(String step) {
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            if (steps.get(i).step().equals(step)) {
+                return steps.get(i);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private double readScriptSeconds() {
+        Map<String, Object> result = Drivers.executeCdp(driver, "Performance.getMetrics", Map.of()).orElse(Map.of());
+        for (Map<String, Object> metric : (List<Map<String, Object>>) result.getOrDefault("metrics", List.of())) {
+            if ("ScriptDuration".equals(metric.get("name"))) {
+                return ((Number) metric.get("value")).doubleValue();
+            }
+        }
+        return 0;
+    }
+
+    private static void putPositive(Map<TimingMetric, Duration> metrics, TimingMetric metric, Object millis) {
+        if (millis instanceof Number && ((Number) millis).doubleValue() > 0) {
+            metrics.put(metric, Duration.ofNanos((long) (((Number) millis).doubleValue() * 1_000_000)));
+        }
+    }
+}
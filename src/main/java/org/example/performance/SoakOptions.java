@@ -0,0 +1,46 @@
+package org.example.performance;
+
+import org.example.utils.ConfigReader;
+
+/**
+ * Settings of a login/logout soak run.
+ * @param cycles The number of login cycles to run in one browser session.
+ * @param sampleEvery How many cycles pass between two memory samples.
+ * @param warmupCycles Cycles run before the first sample, so caches and the JIT settle first.
+ * @param alpha The significance level at which a growing metric is flagged.
+ * @param username The user that logs in.
+ * @param password The password of the user.
+ */
+public record SoakOptions(long cycles, int sampleEvery, long warmupCycles, double alpha,
+                          String username, String password) {
+
+    public SoakOptions {
+        if (cycles < 1 || sampleEvery < 1) {
+            throw new IllegalArgumentException("cycles and sampleEvery must be positive.");
+        }
+        if (warmupCycles < 0 || warmupCycles >= cycles) {
+            throw new IllegalArgumentException("warmupCycles must be between 0 and cycles - 1.");
+        }
+        if (alpha <= 0 || alpha >= 1) {
+            throw new IllegalArgumentException("alpha must be between 0 and 1.");
+        }
+    }
+
+    /**
+     * Method to read the soak settings from config.properties.
+     * @param configReader The configuration snapshot.
+     * @return The configured options.
+     */
+    public static SoakOptions fromConfig(ConfigReader configReader) {
+        return new SoakOptions(configReader.getSoakCycles(), configReader.getSoakSampleEvery(),
+                configReader.getSoakWarmupCycles(), configReader.getSoakAlpha(),
+                configReader.getUsername(), configReader.getPassword());
+    }
+
+    /**
+     * @return The number of samples the run takes.
+     */
+    public long samples() {
+        return (cycles - warmupCycles) / sampleEvery + 1;
+    }
+}
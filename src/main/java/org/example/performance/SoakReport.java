@@ -0,0 +1,119 @@
+package org.example.performance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The result of a soak run: the memory time series and a Mann-Kendall trend per metric.
+ * A metric is flagged as growing when its increasing trend is significant at the run's alpha.
+ */
+public final class SoakReport {
+
+    private final long cycles;
+    private final long failures;
+    private final Duration elapsed;
+    private final double alpha;
+    private final List<MemorySample> samples;
+    private final Map<MemoryMetric, MannKendall.Trend> trends = new EnumMap<>(MemoryMetric.class);
+
+    SoakReport(long cycles, long failures, Duration elapsed, double alpha, List<MemorySample> samples) {
+        this.cycles = cycles;
+        this.failures = failures;
+        this.elapsed = elapsed;
+        this.alpha = alpha;
+        this.samples = List.copyOf(samples);
+        for (MemoryMetric metric : MemoryMetric.values()) {
+            double[] series = this.samples.stream().mapToLong(sample -> sample.get(metric)).filter(v -> v >= 0)
+                    .asDoubleStream().toArray();
+            if (series.length == this.samples.size() && series.length > 0) {
+                trends.put(metric, MannKendall.test(series));
+            }
+        }
+    }
+
+    public long getCycles() {
+        return cycles;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public List<MemorySample> getSamples() {
+        return samples;
+    }
+
+    /**
+     * Method to get the trend of one metric.
+     * @param metric The metric.
+     * @return The trend, or null if the metric was not sampled.
+     */
+    public MannKendall.Trend trend(MemoryMetric metric) {
+        return trends.get(metric);
+    }
+
+    /**
+     * @return The metrics that grew significantly over the run.
+     */
+    public List<MemoryMetric> growing() {
+        List<MemoryMetric> growing = new ArrayList<>();
+        trends.forEach((metric, trend) -> {
+            if (trend.isIncreasing(alpha)) {
+                growing.add(metric);
+            }
+        });
+        return growing;
+    }
+
+    /**
+     * Method to write the time series as CSV, one row per sample; metrics that were not sampled stay empty.
+     * @param file The CSV file to write.
+     */
+    public void writeCsv(Path file) {
+        StringBuilder csv = new StringBuilder("cycle,elapsed_ms");
+        for (MemoryMetric metric : MemoryMetric.values()) {
+            csv.append(',').append(metric.name().toLowerCase(Locale.ROOT));
+        }
+        csv.append('\n');
+        for (MemorySample sample : samples) {
+            csv.append(sample.cycle()).append(',').append(sample.elapsed().toMillis());
+            for (MemoryMetric metric : MemoryMetric.values()) {
+                csv.append(',');
+                if (sample.get(metric) >= 0) {
+                    csv.append(sample.get(metric));
+                }
+            }
+            csv.append('\n');
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(csv.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the soak report to " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(String.format("cycles=%d failures=%d elapsed=%ds samples=%d",
+                cycles, failures, elapsed.toSeconds(), samples.size()));
+        trends.forEach((metric, trend) -> text.append(' ').append(metric).append("[").append(trend).append(']'));
+        return text.append(" growing=").append(growing()).toString();
+    }
+}
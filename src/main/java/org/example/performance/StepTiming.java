@@ -0,0 +1,39 @@
+package org.example.performance;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Browser-side timings of one page transition, as recorded by {@link PageTimings}.
+ * @param step The name of the step, e.g. "login".
+ * @param url The page URL after the step.
+ * @param navigated True if the step loaded a new document; navigation metrics are only meaningful then.
+ * @param metrics The recorded metrics; metrics that could not be measured are absent.
+ * @param resourceCount The number of resources fetched during the step.
+ * @param transferBytes The bytes transferred for those resources.
+ */
+public record StepTiming(String step, String url, boolean navigated, Map<TimingMetric, Duration> metrics,
+                         int resourceCount, long transferBytes) {
+
+    public StepTiming {
+        metrics = metrics.isEmpty() ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(metrics));
+    }
+
+    /**
+     * Method to get one metric of the step.
+     * @param metric The metric.
+     * @return The measured duration, or null if it was not available for this step.
+     */
+    public Duration get(TimingMetric metric) {
+        return metrics.get(metric);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(step).append(" [").append(url).append("]");
+        metrics.forEach((metric, value) -> text.append(' ').append(metric).append('=').append(value.toMillis()).append("ms"));
+        return text.append(" resources=").append(resourceCount).append(" bytes=").append(transferBytes).toString();
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.performance;
+
+/**
+ * Browser-side timings recorded for each page transition.
+ */
+public enum TimingMetric {
+
+    /** DNS lookup of the document request. */
+    DNS,
+
+    /** Time to first byte: from the start of the navigation until the first response byte. */
+    TTFB,
+
+    /** From the start of the navigation until DOMContentLoaded handlers finished. */
+    DOM_CONTENT_LOADED,
+
+    /** From the start of the navigation until the load event finished. */
+    LOAD,
+
+    /** JavaScript execution time during the step, from CDP Performance.getMetrics (Chrome only). */
+    SCRIPT,
+
+    /** Wall-clock time seen by the test minus the browser's own navigation time. */
+    HARNESS_OVERHEAD
+}
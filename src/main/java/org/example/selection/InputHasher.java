@@ -0,0 +1,212 @@
+package org.example.selection;
+
+import org.example.utils.ConfigReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Computes content hashes of the inputs recorded by {@link TestInputs}.
+ * Every hash is computed at most once per instance, so use a new instance for every point in time
+ * that should see the current state of the files.
+ *
+ * Besides the recorded inputs it knows two kinds of code inputs: "class:&lt;name&gt;" is the class file of a
+ * test class, and {@link #HARNESS} is every other class of the harness except the page objects, which are
+ * tracked per test. A change to harness code therefore affects every test, while a change to a page
+ * object only affects the tests that used it.
+ */
+public class InputHasher {
+
+    /** The input standing for all harness code and main resources. */
+    public static final String HARNESS = "code:harness";
+
+    private static final String PAGES_PACKAGE = "org/example/pages/";
+    private static final String CONFIG_FILE = "config.properties";  // Tracked per key instead
+    private static final String MISSING = "missing";
+
+    private final ConfigReader configReader;
+    private final ClassLoader classLoader;
+    private final Set<String> testClasses;
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to hash inputs as they are now.
+     * @param configReader The configuration whose values config inputs hash.
+     * @param classLoader The loader of the test and harness classes and of classpath fixtures.
+     * @param testClasses The names of the classes that contain tests; they are hashed per test, not as harness code.
+     */
+    public InputHasher(ConfigReader configReader, ClassLoader classLoader, Collection<String> testClasses) {
+        this.configReader = configReader;
+        this.classLoader = classLoader;
+        this.testClasses = Set.copyOf(testClasses);
+    }
+
+    /**
+     * Method to hash a set of inputs together.
+     * @param inputs The inputs.
+     * @return A hash that changes whenever any of the inputs changes, or the set itself does.
+     */
+    public String hash(Collection<String> inputs) {
+        MessageDigest digest = sha256();
+        for (String input : new TreeSet<>(inputs)) {
+            digest.update((input + '=' + hash(input) + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Method to hash one input.
+     * @param input The input, e.g. "config:wait.timeout".
+     * @return The hash of its current content.
+     */
+    public String hash(String input) {
+        return hashes.computeIfAbsent(input, this::compute);
+    }
+
+    private String compute(String input) {
+        int colon = input.indexOf(':');
+        String kind = colon < 0 ? input : input.substring(0, colon);
+        String name = input.substring(colon + 1);
+        switch (kind) {
+            case "config":
+                try {
+                    return hashOf(configReader.getString(name).getBytes(StandardCharsets.UTF_8));
+                } catch (IllegalArgumentException e) {
+                    return MISSING;
+                }
+            case "class":
+                return hashOf(resource(name.replace('.', '/') + ".class"));
+            case "page":
+                // Page objects share helpers such as waits and scripts, so the whole package is one input
+                MessageDigest pages = sha256();
+                classRoot(name).ifPresent(root -> hashTree(root, PAGES_PACKAGE, file -> true, pages));
+                return HexFormat.of().formatHex(pages.digest());
+            case "fixture":
+                if (name.startsWith("classpath:")) {
+                    return hashOf(resource(name.substring("classpath:".length())));
+                }
+                return hashOf(read(Path.of(name)));
+            case "code":
+                return harness();
+            default:
+                throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    /**
+     * Hashes every class of the main and test outputs except page objects and test classes, plus the
+     * resources of the main output (the stand-in site) except the config file.
+     */
+    private String harness() {
+        Optional<Path> mainRoot = classRoot(ConfigReader.class.getName());
+        Set<Path> roots = new LinkedHashSet<>();
+        mainRoot.ifPresent(roots::add);
+        testClasses.forEach(testClass -> classRoot(testClass).ifPresent(roots::add));
+
+        Set<String> excluded = new HashSet<>();
+        testClasses.forEach(testClass -> excluded.add(testClass.replace('.', '/') + ".class"));
+        MessageDigest digest = sha256();
+        for (Path root : roots) {
+            boolean main = mainRoot.isPresent() && root.equals(mainRoot.get());
+            hashTree(root, "", name -> !name.startsWith(PAGES_PACKAGE) && !excluded.contains(name)
+                    && (name.endsWith(".class") || (main && !name.equals(CONFIG_FILE))), digest);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Adds the names and contents of the accepted files below a classpath root to a digest; a jar is hashed as a whole.
+     */
+    private static void hashTree(Path root, String prefix, Predicate<String> filter, MessageDigest digest) {
+        if (Files.isRegularFile(root)) {
+            digest.update(read(root));
+            return;
+        }
+        Path dir = root.resolve(prefix);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                String name = root.relativize(file).toString().replace('\\', '/');
+                if (filter.test(name)) {
+                    digest.update((name + '\n').getBytes(StandardCharsets.UTF_8));
+                    digest.update(read(file));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not hash " + dir, e);
+        }
+    }
+
+    /**
+     * Finds the classpath root (output directory or jar) a class was loaded from.
+     */
+    private Optional<Path> classRoot(String className) {
+        URL url = classLoader.getResource(className.replace('.', '/') + ".class");
+        if (url == null) {
+            return Optional.empty();
+        }
+        try {
+            if (url.getProtocol().equals("jar")) {
+                String jar = url.getPath().substring(0, url.getPath().indexOf("!/"));
+                return Optional.of(Path.of(URI.create(jar)));
+            }
+            Path root = Path.of(url.toURI());
+            for (int i = 0; i <= className.chars().filter(c -> c == '.').count(); i++) {
+                root = root.getParent();
+            }
+            return Optional.of(root);
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] resource(String name) {
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + name, e);
+        }
+    }
+
+    private static byte[] read(Path file) {
+        try {
+            return Files.exists(file) ? Files.readAllBytes(file) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file, e);
+        }
+    }
+
+    private static String hashOf(byte[] bytes) {
+        return bytes == null ? MISSING : HexFormat.of().formatHex(sha256().digest(bytes));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
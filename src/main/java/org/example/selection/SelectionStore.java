@@ -0,0 +1,131 @@
+package org.example.selection;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The inputs, their combined hash and the outcome of every test of earlier runs, keyed by the fully
+ * qualified test method and persisted as a properties file sorted by test name. The inputs every
+ * test shares are kept under the name {@link #SHARED}, which can never clash with a test name.
+ */
+public class SelectionStore {
+
+    /** Name of the entry holding the inputs every test depends on. */
+    public static final String SHARED = "suite";
+
+    /**
+     * What a test read and how it ended.
+     * @param hash The combined hash of the inputs when the test ran.
+     * @param passed Whether every invocation of the test passed.
+     * @param inputs The inputs the test read, see {@link TestInputs}.
+     */
+    public record Entry(String hash, boolean passed, Set<String> inputs) {
+
+        public Entry {
+            inputs = Set.copyOf(inputs);
+        }
+    }
+
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    /**
+     * Method to read a store file.
+     * @param file The file to read.
+     * @return The store, or an empty store if the file does not exist yet.
+     */
+    public static SelectionStore load(Path file) {
+        SelectionStore store = new SelectionStore();
+        if (!Files.exists(file)) {
+            return store;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read test selection file " + file, e);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.endsWith(".hash")) {
+                continue;
+            }
+            String test = key.substring(0, key.length() - ".hash".length());
+            String inputs = properties.getProperty(test + ".inputs", "");
+            store.entries.put(test, new Entry(properties.getProperty(key).trim(),
+                    Boolean.parseBoolean(properties.getProperty(test + ".passed", "false").trim()),
+                    inputs.isBlank() ? Set.of() : Arrays.stream(inputs.split(",")).map(String::trim).collect(Collectors.toSet())));
+        }
+        return store;
+    }
+
+    /**
+     * Method to write the store, replacing the file.
+     * @param file The file to write.
+     */
+    public synchronized void save(Path file) {
+        StringBuilder text = new StringBuilder("# Inputs and outcomes of earlier test runs, used to skip unchanged tests that passed\n");
+        entries.forEach((test, entry) -> text
+                .append(test).append(".hash=").append(entry.hash()).append('\n')
+                .append(test).append(".passed=").append(entry.passed()).append('\n')
+                .append(test).append(".inputs=").append(String.join(",", new TreeSet<>(entry.inputs()))).append('\n'));
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            Files.writeString(file, text, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write test selection file " + file, e);
+        }
+    }
+
+    /**
+     * Method to record the latest run of a test, replacing the earlier one.
+     * @param test The fully qualified test method, or {@link #SHARED}.
+     * @param entry What the test read and how it ended.
+     */
+    public synchronized void put(String test, Entry entry) {
+        entries.put(test, entry);
+    }
+
+    /**
+     * Method to get the latest recorded run of a test.
+     * @param test The fully qualified test method, or {@link #SHARED}.
+     * @return The entry, or null if the test never ran.
+     */
+    public synchronized Entry get(String test) {
+        return entries.get(test);
+    }
+
+    /**
+     * Method to find the tests that can be skipped: they passed last time and none of the inputs they read
+     * then, nor the shared inputs, have changed since.
+     * @param tests The tests of the suite.
+     * @param hasher Hashes the inputs as they are now.
+     * @return The unchanged tests; empty when the shared inputs changed or nothing was recorded yet.
+     */
+    public synchronized Set<String> unchanged(Collection<String> tests, InputHasher hasher) {
+        Entry shared = entries.get(SHARED);
+        if (shared == null || !shared.hash().equals(hasher.hash(shared.inputs()))) {
+            return Set.of();
+        }
+        Set<String> unchanged = new TreeSet<>();
+        for (String test : tests) {
+            Entry entry = entries.get(test);
+            if (entry != null && entry.passed() && entry.hash().equals(hasher.hash(entry.inputs()))) {
+                unchanged.add(test);
+            }
+        }
+        return unchanged;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.selection;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records which inputs tests read while they run: configuration keys, page objects and fixture files.
+ * The static hooks are called by the code that reads an input and add it to the recording started by
+ * {@link #start()}, if there is one, so they cost a single volatile read when nothing is recorded.
+ * Within a recording, inputs are confined to the thread that called {@link #begin()}, so parallel tests
+ * record separately. Inputs read on a thread without a test (suite listeners, driver setup) are collected
+ * as shared inputs, which every test depends on.
+ *
+ * Inputs are identified by strings such as "config:wait.timeout", "page:org.example.pages.LoginPage"
+ * or "fixture:classpath:data/login-matrix.csv", which {@link InputHasher} knows how to hash.
+ */
+public final class TestInputs {
+
+    private static volatile TestInputs active;  // The recording the hooks add to, or null
+
+    private final ThreadLocal<Set<String>> current = new ThreadLocal<>();
+    private final Set<String> shared = ConcurrentHashMap.newKeySet();
+
+    TestInputs() {
+    }
+
+    /**
+     * Method to start a recording that the hooks add to, replacing any earlier one.
+     * @return The new recording.
+     */
+    public static TestInputs start() {
+        TestInputs recording = new TestInputs();
+        active = recording;
+        return recording;
+    }
+
+    /**
+     * Method to stop this recording; the hooks no longer add to it.
+     */
+    public void stop() {
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    /**
+     * Method to start collecting the inputs of a test on the calling thread, replacing any unfinished one.
+     */
+    public void begin() {
+        current.set(new HashSet<>());
+    }
+
+    /**
+     * Method to finish collecting the inputs of the calling thread's test.
+     * @return The inputs read since {@link #begin()}, or an empty set if there was no test.
+     */
+    public Set<String> end() {
+        Set<String> inputs = current.get();
+        current.remove();
+        return inputs == null ? Set.of() : inputs;
+    }
+
+    /**
+     * Method to get the inputs read outside of any test.
+     * @return A copy of the shared inputs.
+     */
+    public Set<String> shared() {
+        return Set.copyOf(shared);
+    }
+
+    /**
+     * Method to record that a configuration key was read.
+     * @param key The property key.
+     */
+    public static void config(String key) {
+        record("config:" + key);
+    }
+
+    /**
+     * Method to record that a page object was used.
+     * @param pageObject The page object class.
+     */
+    public static void pageObject(Class<?> pageObject) {
+        record("page:" + pageObject.getName());
+    }
+
+    /**
+     * Method to record that a file was read.
+     * @param file The file, preferably relative to the working directory so records are portable.
+     */
+    public static void fixture(Path file) {
+        record("fixture:" + file.toString().replace('\\', '/'));
+    }
+
+    /**
+     * Method to record that a classpath resource was read.
+     * @param resource The resource name, without a leading slash.
+     */
+    public static void resource(String resource) {
+        record("fixture:classpath:" + resource);
+    }
+
+    /**
+     * Adds an input to the test of the calling thread, or to the shared inputs if no test is running on it.
+     */
+    void add(String input) {
+        Set<String> inputs = current.get();
+        (inputs != null ? inputs : shared).add(input);
+    }
+
+    private static void record(String input) {
+        TestInputs recording = active;
+        if (recording != null) {
+            recording.add(input);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.sharding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.TreeSet;
+
+/**
+ * Splits a suite into shards of roughly equal total duration.
+ * Tests are placed longest first, each on the shard with the least work so far, which keeps the
+ * slowest shard within 4/3 of the optimum. The plan only depends on the test names and the timings
+ * file, so every shard JVM computes the same plan independently and no coordination is needed.
+ */
+public final class ShardPlanner {
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * Method to assign tests to shards.
+     * Tests without history are estimated at the mean of the known durations.
+     * @param tests The test names, "Class.method"; duplicates are ignored.
+     * @param history The recorded durations.
+     * @param shardCount The number of shards.
+     * @return The tests of each shard, indexed by shard.
+     */
+    public static List<List<String>> plan(Iterable<String> tests, TestTimings history, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be positive but was " + shardCount);
+        }
+        TreeSet<String> names = new TreeSet<>();
+        tests.forEach(names::add);
+
+        Map<String, Long> known = history.asMap();
+        OptionalDouble mean = names.stream().filter(known::containsKey).mapToLong(known::get).average();
+        long estimate = Math.max(1, Math.round(mean.orElse(1)));
+
+        // Longest first; the name breaks ties so that the order is the same in every JVM
+        List<String> ordered = new ArrayList<>(names);
+        ordered.sort(Comparator.<String>comparingLong(test -> known.getOrDefault(test, estimate)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        List<List<String>> shards = new ArrayList<>();
+        long[] load = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (String test : ordered) {
+            int target = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (load[i] < load[target]) {
+                    target = i;
+                }
+            }
+            shards.get(target).add(test);
+            load[target] += known.getOrDefault(test, estimate);
+        }
+        return shards;
+    }
+
+    /**
+     * Method to estimate how long a shard will take.
+     * @param shard The tests of the shard.
+     * @param history The recorded durations.
+     * @return The sum of the recorded durations; tests without history count as zero.
+     */
+    public static Duration estimate(List<String> shard, TestTimings history) {
+        return shard.stream().map(history::get).filter(duration -> duration != null)
+                .reduce(Duration.ZERO, Duration::plus);
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.sharding;
+
+import org.example.grid.LocalGrid;
+import org.example.utils.ConfigReader;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs a TestNG suite as shard.count separate JVMs and merges their results.
+ *
+ * Every shard JVM gets its own shard.index, report directory and local site port; the shards pick
+ * their tests themselves (see ShardListener), balanced by the durations in shard.timings.file.
+ * When all shards are done, their testng-results.xml files are merged into one, and the durations
+ * they measured are written back to shard.timings.file for the next run.
+ * Every other system property override of the runner is passed on to the shards, and environment variables
+ * are inherited, so the shards run with the same configuration as the runner.
+ * An embedded Selenium Grid is started once by the runner and shared by all shards.
+ *
+ * Usage: java -cp &lt;test classpath&gt; -Dshard.count=3 org.example.sharding.ShardRunner [suite.xml] [output dir]
+ */
+public final class ShardRunner {
+
+    private static final String RESULTS_FILE = "testng-results.xml";
+    private static final List<String> RESULT_COUNTS = List.of("total", "passed", "failed", "skipped", "ignored");
+
+    private ShardRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String suite = args.length > 0 ? args[0] : "src/test/resources/testng.xml";
+        Path outputDir = Path.of(args.length > 1 ? args[1] : "target/shards");
+        System.exit(run(suite, outputDir, ConfigReader.getInstance()));
+    }
+
+    /**
+     * Method to run every shard in parallel and merge the results once they are all done.
+     * @param suite The TestNG suite file.
+     * @param outputDir Where each shard's TestNG output and the merged results go.
+     * @param configReader The configuration with the shard count and base settings.
+     * @return 0 if every shard passed, otherwise the first non-zero shard exit code.
+     */
+    public static int run(String suite, Path outputDir, ConfigReader configReader) throws IOException, InterruptedException {
+        int shardCount = configReader.getShardCount();
+        LocalGrid grid = configReader.isRemoteDriver() && configReader.isGridEmbedded()
+                ? LocalGrid.fromConfig(configReader).start() : null;
+        int exitCode = 0;
+        try {
+            List<Process> processes = new ArrayList<>();
+            for (int index = 0; index < shardCount; index++) {
+                processes.add(startShard(suite, outputDir, configReader, index, shardCount));
+            }
+
+            for (int index = 0; index < shardCount; index++) {
+                int shardExit = processes.get(index).waitFor();
+                System.out.println("Shard " + index + " finished with exit code " + shardExit
+                        + ", log: " + shardDir(outputDir, index).resolve("console.log"));
+                if (exitCode == 0) {
+                    exitCode = shardExit;
+                }
+            }
+        } finally {
+            if (grid != null) {
+                grid.stop();
+            }
+        }
+
+        mergeResults(outputDir, shardCount);
+        mergeTimings(configReader, shardCount);
+        return exitCode;
+    }
+
+    private static Process startShard(String suite, Path outputDir, ConfigReader configReader, int index, int shardCount)
+            throws IOException {
+        Path shardDir = shardDir(outputDir, index);
+        Files.createDirectories(shardDir);
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        Map<String, String> properties = new TreeMap<>(configReader.getSystemOverrides());  // e.g. -Dbrowser.profile=full
+        properties.put("shard.index", String.valueOf(index));
+        properties.put("shard.count", String.valueOf(shardCount));
+        properties.put("shard.timings.file", configReader.getTimingsFile().toAbsolutePath().toString());
+        properties.put("report.dir", shardReportDir(configReader, index).toAbsolutePath().toString());
+        if (configReader.isLocalSiteEnabled() && configReader.getLocalSitePort() != 0) {
+            // Every shard starts its own local site, so they need distinct ports
+            properties.put("local.site.port", String.valueOf(configReader.getLocalSitePort() + index));
+        }
+        if (configReader.isRemoteDriver() && configReader.isGridEmbedded()) {
+            properties.put("grid.embedded", "false");  // The shards use the grid this runner started
+        }
+        properties.forEach((key, value) -> command.add("-D" + key + "=" + value));
+        command.add("org.testng.TestNG");
+        command.add("-d");
+        command.add(shardDir.toAbsolutePath().toString());
+        command.add(suite);
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(shardDir.resolve("console.log").toFile())
+                .start();
+    }
+
+    /**
+     * Combines the suite elements of every shard's testng-results.xml under one root with summed counts.
+     */
+    static void mergeResults(Path outputDir, int shardCount) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            Document merged = factory.newDocumentBuilder().newDocument();
+            Element root = merged.createElement("testng-results");
+            merged.appendChild(root);
+            long[] counts = new long[RESULT_COUNTS.size()];
+
+            for (int index = 0; index < shardCount; index++) {
+                File results = shardDir(outputDir, index).resolve(RESULTS_FILE).toFile();
+                if (!results.exists()) {
+                    System.out.println("Shard " + index + " wrote no " + RESULTS_FILE + ", skipping it in the merge");
+                    continue;
+                }
+                Element shardRoot = factory.newDocumentBuilder().parse(results).getDocumentElement();
+                for (int i = 0; i < counts.length; i++) {
+                    String count = shardRoot.getAttribute(RESULT_COUNTS.get(i));
+                    counts[i] += count.isEmpty() ? 0 : Long.parseLong(count);
+                }
+                NodeList children = shardRoot.getChildNodes();
+                for (int i = 0; i < children.getLength(); i++) {
+                    Node child = children.item(i);
+                    if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().equals("suite")) {
+                        root.appendChild(merged.importNode(child, true));
+                    }
+                }
+            }
+            for (int i = 0; i < counts.length; i++) {
+                root.setAttribute(RESULT_COUNTS.get(i), String.valueOf(counts[i]));
+            }
+
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.transform(new DOMSource(merged), new StreamResult(outputDir.resolve(RESULTS_FILE).toFile()));
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Could not merge the shard results: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Folds the durations every shard measured into the persisted timings file.
+     */
+    static void mergeTimings(ConfigReader configReader, int shardCount) {
+        Path timingsFile = configReader.getTimingsFile();
+        TestTimings history = TestTimings.load(timingsFile);
+        for (int index = 0; index < shardCount; index++) {
+            history.update(TestTimings.load(shardReportDir(configReader, index).resolve(TestTimings.RUN_FILE)));
+        }
+        history.save(timingsFile);
+    }
+
+    private static Path shardDir(Path outputDir, int index) {
+        return outputDir.resolve("shard-" + index);
+    }
+
+    private static Path shardReportDir(ConfigReader configReader, int index) {
+        return configReader.getReportDir().resolve("shard-" + index);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.sharding;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Durations of test methods keyed by "Class.method", persisted as a properties file of milliseconds.
+ * The file is sorted by test name so that it diffs cleanly when checked in or cached on CI.
+ */
+public class TestTimings {
+
+    /** Name of the file in report.dir with the durations measured by a single run. */
+    public static final String RUN_FILE = "timings.properties";
+
+    private final Map<String, Long> millis = new TreeMap<>();
+
+    /**
+     * Method to read a timings file.
+     * @param file The file to read.
+     * @return The timings, or empty timings if the file does not exist yet.
+     */
+    public static TestTimings load(Path file) {
+        TestTimings timings = new TestTimings();
+        if (!Files.exists(file)) {
+            return timings;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read timings file " + file, e);
+        }
+        for (String test : properties.stringPropertyNames()) {
+            try {
+                timings.millis.put(test, Long.parseLong(properties.getProperty(test).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException(file + ": duration of " + test + " must be milliseconds", e);
+            }
+        }
+        return timings;
+    }
+
+    /**
+     * Method to write the timings, replacing the file.
+     * @param file The file to write.
+     */
+    public synchronized void save(Path file) {
+        StringBuilder text = new StringBuilder("# Test durations in milliseconds, used to balance shards\n");
+        millis.forEach((test, duration) -> text.append(test).append('=').append(duration).append('\n'));
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            Files.writeString(file, text, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write timings file " + file, e);
+        }
+    }
+
+    /**
+     * Method to add time to a test, e.g. one invocation of a data-driven test.
+     * @param test The test name, "Class.method".
+     * @param duration The time to add.
+     */
+    public synchronized void add(String test, Duration duration) {
+        millis.merge(test, duration.toMillis(), Long::sum);
+    }
+
+    /**
+     * Method to overwrite the durations of every test measured in a newer run.
+     * Tests the newer run did not execute (other shards, skipped tests) keep their old duration.
+     * @param newer The newer measurements.
+     */
+    public synchronized void update(TestTimings newer) {
+        millis.putAll(newer.asMap());
+    }
+
+    /**
+     * @param test The test name, "Class.method".
+     * @return The recorded duration, or null if the test has never run.
+     */
+    public synchronized Duration get(String test) {
+        Long duration = millis.get(test);
+        return duration != null ? Duration.ofMillis(duration) : null;
+    }
+
+    /**
+     * @return A copy of the durations in milliseconds, sorted by test name.
+     */
+    public synchronized Map<String, Long> asMap() {
+        return new TreeMap<>(millis);
+    }
+}
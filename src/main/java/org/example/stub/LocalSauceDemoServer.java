@@ -0,0 +1,191 @@
+package org.example.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-process stand-in for the Saucedemo website.
+ * It serves the login page and inventory.html with the same element ids as the real site and
+ * implements the special users (locked_out, problem, error, visual and performance_glitch),
+ * so the suite can run fully offline with deterministic timings.
+ */
+public class LocalSauceDemoServer {
+
+    public static final String PASSWORD = "secret_sauce";
+
+    private static final Set<String> USERS = Set.of("standard_user", "locked_out_user", "problem_user",
+            "performance_glitch_user", "error_user", "visual_user");
+
+    private static final List<String> PRODUCTS = List.of("Sauce Labs Backpack", "Sauce Labs Bike Light",
+            "Sauce Labs Bolt T-Shirt", "Sauce Labs Fleece Jacket", "Sauce Labs Onesie", "Test.allTheThings() T-Shirt (Red)");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration glitchDelay;
+
+    private final String loginPage = resource("login.html");
+    private final String inventoryPage = resource("inventory.html");
+    private final String loginScript = resource("login.js");
+    private final String styleSheet = resource("style.css");
+
+    /**
+     * Constructor to bind the server; call {@link #start()} to begin serving.
+     * @param port The localhost port to listen on, or 0 for any free port.
+     * @param glitchDelay The delay injected before inventory.html is served to performance_glitch_user.
+     */
+    public LocalSauceDemoServer(int port, Duration glitchDelay) {
+        this.glitchDelay = glitchDelay;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not bind the local Saucedemo site to port " + port, e);
+        }
+        // Virtual threads keep the injected glitch delay from blocking other sessions
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Method to start serving requests.
+     * @return This server, for chaining.
+     */
+    public LocalSauceDemoServer start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * Method to stop the server and release its port.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Method to get the URL of the login page.
+     * @return The base URL, ending with a slash.
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            switch (path) {
+                case "/", "/index.html" -> send(exchange, 200, "text/html", loginPage);
+                case "/static/login.js" -> send(exchange, 200, "application/javascript", loginScript);
+                case "/static/style.css" -> send(exchange, 200, "text/css", styleSheet);
+                case "/inventory.html" -> inventory(exchange);
+                case "/logout" -> {
+                    exchange.getResponseHeaders().add("Set-Cookie", "session-username=; Path=/; Max-Age=0");
+                    redirect(exchange, "/");
+                }
+                default -> {
+                    if (path.startsWith("/static/img/item-")) {
+                        send(exchange, 200, "image/svg+xml", productImage(path));
+                    } else {
+                        send(exchange, 404, "text/plain", "Not found");
+                    }
+                }
+            }
+        }
+    }
+
+    private void inventory(HttpExchange exchange) throws IOException {
+        String user = sessionUser(exchange);
+        if (user == null || user.equals("locked_out_user")) {
+            redirect(exchange, "/?error=unauthenticated");
+            return;
+        }
+        if (user.equals("performance_glitch_user")) {
+            try {
+                Thread.sleep(glitchDelay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < PRODUCTS.size(); i++) {
+            // problem_user gets broken images, error_user gets add-to-cart buttons that fail on click
+            String image = user.equals("problem_user") ? "/static/img/sl-404.svg" : "/static/img/item-" + i + ".svg";
+            String onClick = user.equals("error_user") && i % 2 == 1 ? " onclick=\"throw new Error('Failed to add item')\"" : "";
+            items.append("            <div class=\"inventory_item\">")
+                    .append("<div class=\"inventory_item_img\"><img alt=\"").append(PRODUCTS.get(i))
+                    .append("\" src=\"").append(image).append("\"></div>")
+                    .append("<div class=\"inventory_item_name\">").append(PRODUCTS.get(i)).append("</div>")
+                    .append("<div class=\"inventory_item_price\">$").append(9 + i * 6).append(".99</div>")
+                    .append("<button class=\"btn_inventory\" id=\"add-to-cart-").append(i).append("\"")
+                    .append(onClick).append(">Add to cart</button></div>\n");
+        }
+        String page = inventoryPage
+                .replace("${bodyClass}", user.equals("visual_user") ? "visual_failure" : "")
+                .replace("${user}", user)
+                .replace("${items}", items);
+        send(exchange, 200, "text/html", page);
+    }
+
+    /**
+     * Reads the session-username cookie that the login page sets on success.
+     */
+    private static String sessionUser(HttpExchange exchange) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && pair[0].equals("session-username") && USERS.contains(pair[1])) {
+                    return pair[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String productImage(String path) {
+        int hue = Math.abs(path.hashCode()) % 360;
+        return "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"120\" height=\"120\">"
+                + "<rect width=\"120\" height=\"120\" fill=\"hsl(" + hue + ",60%,60%)\"/></svg>";
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType + "; charset=utf-8");
+        exchange.getResponseHeaders().add("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String resource(String name) {
+        try (InputStream in = LocalSauceDemoServer.class.getResourceAsStream("/stub/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing stub resource: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
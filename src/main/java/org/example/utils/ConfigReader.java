@@ -1,35 +1,126 @@
 package org.example.utils;
 
-import java.io.FileInputStream;
+import org.example.selection.TestInputs;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
 /**
- * Utility class to read configuration values from a properties file.
+ * Utility class to read configuration values for the test harness.
  * This class will load values like base URL, username, and password.
+ *
+ * The configuration is loaded once per JVM into an immutable snapshot, layered as follows
+ * (later layers win):
+ * <ol>
+ *     <li>config.properties from the classpath</li>
+ *     <li>environment variables, with the key upper-cased and dots replaced by underscores (POOL_SIZE)</li>
+ *     <li>system properties (-Dpool.size=8)</li>
+ * </ol>
+ * Invalid values fail fast when the snapshot is loaded rather than in the middle of a test run.
  */
-public class ConfigReader {
+public final class ConfigReader {
+
+    private static final String CONFIG_FILE = "config.properties";
+
+    // Per-test browser profile selections; these may be passed as system properties without being in the file
+    private static final String PROFILE_SELECTION_PREFIX = "browser.profile.for.";
+
+    private final Map<String, String> properties;
+    private final Map<String, String> systemOverrides;  // The values that came from system properties
+
+    /**
+     * Constructor to build and validate a snapshot from already merged values.
+     * @param properties The merged configuration values.
+     * @param systemOverrides The keys among them whose value was given as a system property.
+     */
+    ConfigReader(Map<String, String> properties, Map<String, String> systemOverrides) {
+        this.properties = Map.copyOf(properties);
+        this.systemOverrides = Map.copyOf(systemOverrides);
+        validate();
+    }
+
+    /**
+     * Method to get the process-wide configuration snapshot.
+     * @return The shared ConfigReader, loaded on first use.
+     */
+    public static ConfigReader getInstance() {
+        return Holder.INSTANCE;
+    }
 
-    private Properties properties;
+    /**
+     * Lazy holder so the snapshot is loaded exactly once, on first access, without locking.
+     */
+    private static final class Holder {
+        private static final ConfigReader INSTANCE = load(System.getenv(), System.getProperties());
+    }
 
     /**
-     * Constructor to initialize properties file.
+     * Method to merge the classpath config file with environment and system property overlays.
+     * @param environment The environment variables to overlay.
+     * @param systemProperties The system properties to overlay.
+     * @return A validated snapshot.
      */
-    public ConfigReader() {
-        try (FileInputStream fis = new FileInputStream("src/main/resources/config.properties")) {
-            properties = new Properties();
-            properties.load(fis);  // Load properties from the config file
+    static ConfigReader load(Map<String, String> environment, Properties systemProperties) {
+        Properties defaults = new Properties();
+        try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (in == null) {
+                throw new IllegalStateException(CONFIG_FILE + " was not found on the classpath.");
+            }
+            defaults.load(in);  // Load properties from the config file
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new UncheckedIOException("Could not read " + CONFIG_FILE, e);
+        }
+
+        Map<String, String> merged = new HashMap<>();
+        Map<String, String> systemOverrides = new HashMap<>();
+        for (String key : defaults.stringPropertyNames()) {
+            String value = defaults.getProperty(key);
+            String envValue = environment.get(key.toUpperCase(Locale.ROOT).replace('.', '_'));
+            if (envValue != null) {
+                value = envValue;
+            }
+            merged.put(key, systemProperties.getProperty(key, value).trim());
+            if (systemProperties.getProperty(key) != null) {
+                systemOverrides.put(key, merged.get(key));
+            }
+        }
+        for (String key : systemProperties.stringPropertyNames()) {
+            if (key.startsWith(PROFILE_SELECTION_PREFIX)) {
+                merged.put(key, systemProperties.getProperty(key).trim());
+                systemOverrides.put(key, merged.get(key));
+            }
         }
+        return new ConfigReader(merged, systemOverrides);
+    }
+
+    /**
+     * Method to get the configuration values that were given as system properties, e.g. to pass them on to child JVMs.
+     * @return The overridden keys with their values.
+     */
+    public Map<String, String> getSystemOverrides() {
+        return systemOverrides;
     }
 
     /**
      * Method to get the base URL for the website.
+     * When the local stand-in site is enabled, this points at it instead of the public site.
      * @return The base URL.
      */
     public String getBaseUrl() {
-        return properties.getProperty("base.url");
+        if (isLocalSiteEnabled()) {
+            return "http://localhost:" + getLocalSitePort() + "/";
+        }
+        return getString("base.url");
     }
 
     /**
@@ -37,7 +128,7 @@ public class ConfigReader {
      * @return The username.
      */
     public String getUsername() {
-        return properties.getProperty("username");
+        return getString("username");
     }
 
     /**
@@ -45,6 +136,628 @@ public class ConfigReader {
      * @return The password.
      */
     public String getPassword() {
-        return properties.getProperty("password");
+        return getString("password");
+    }
+
+    /**
+     * Method to get the number of browser sessions the driver pool may keep alive.
+     * @return The driver pool size.
+     */
+    public int getPoolSize() {
+        return getInt("pool.size");
+    }
+
+    /**
+     * Method to get how many tests a pooled browser serves before it is recycled.
+     * @return The maximum number of uses per browser session.
+     */
+    public int getPoolMaxUses() {
+        return getInt("pool.max.uses");
+    }
+
+    /**
+     * Method to get the TestNG parallel mode (none, methods, classes, tests or instances).
+     * @return The parallel mode for the suite.
+     */
+    public String getParallelMode() {
+        return getString("parallel.mode");
+    }
+
+    /**
+     * Method to get the number of threads TestNG runs tests and data providers on.
+     * @return The suite thread count.
+     */
+    public int getParallelThreads() {
+        return getInt("parallel.threads");
+    }
+
+    /**
+     * Method to check whether tests run against the embedded stand-in site instead of the internet.
+     * @return True if the local site is enabled.
+     */
+    public boolean isLocalSiteEnabled() {
+        return getBoolean("local.site.enabled");
+    }
+
+    /**
+     * Method to get the localhost port the stand-in site listens on.
+     * @return The local site port.
+     */
+    public int getLocalSitePort() {
+        return getInt("local.site.port");
+    }
+
+    /**
+     * Method to get the delay the stand-in site injects for performance_glitch_user.
+     * @return The injected login delay.
+     */
+    public Duration getGlitchDelay() {
+        return getDuration("local.site.glitch.delay");
+    }
+
+    /**
+     * Method to get the browser profile used when a test has no specific selection.
+     * @return The default profile name.
+     */
+    public String getDefaultBrowserProfile() {
+        return getString("browser.profile");
+    }
+
+    /**
+     * Method to get the browser profile selected for a test through
+     * browser.profile.for.&lt;Class&gt;.&lt;method&gt; or browser.profile.for.&lt;Class&gt;.
+     * @param testClass The simple name of the test class.
+     * @param testMethod The test method name.
+     * @return The profile name, falling back to the default profile.
+     */
+    public String getBrowserProfileName(String testClass, String testMethod) {
+        String prefix = PROFILE_SELECTION_PREFIX + testClass;
+        return properties.getOrDefault(prefix + "." + testMethod,
+                properties.getOrDefault(prefix, getDefaultBrowserProfile()));
+    }
+
+    /**
+     * Method to get the default timeout for explicit waits.
+     * @return The wait timeout.
+     */
+    public Duration getWaitTimeout() {
+        return getDuration("wait.timeout");
+    }
+
+    /**
+     * Method to get the credential matrix the data-driven login test reads.
+     * @return A file path or classpath resource of a CSV or JSON Lines file.
+     */
+    public String getLoginMatrix() {
+        return getString("login.matrix");
+    }
+
+    /**
+     * Method to get the load-time budget for opening the login page.
+     * @return The largest acceptable browser-side time until DOMContentLoaded finished.
+     */
+    public Duration getOpenPageBudget() {
+        return getDuration("budget.open.load");
+    }
+
+    /**
+     * Method to get the number of concurrent browser sessions in a load run.
+     * @return The load session count.
+     */
+    public int getLoadSessions() {
+        return getInt("load.sessions");
+    }
+
+    /**
+     * Method to get how long a load run generates load when no iteration count is set.
+     * @return The load duration.
+     */
+    public Duration getLoadDuration() {
+        return getDuration("load.duration");
+    }
+
+    /**
+     * Method to get the total number of login flows in a load run.
+     * @return The iteration count, or 0 to run for the configured duration.
+     */
+    public int getLoadIterations() {
+        return getInt("load.iterations");
+    }
+
+    /**
+     * Method to get the intended time between two iterations of one load session.
+     * @return The pacing interval, or zero for back-to-back iterations.
+     */
+    public Duration getLoadPacing() {
+        return getDuration("load.pacing");
+    }
+
+    /**
+     * Method to get the largest acceptable 99th percentile login latency under load.
+     * @return The p99 budget.
+     */
+    public Duration getLoadP99Budget() {
+        return getDuration("load.budget.p99");
+    }
+
+    /**
+     * Method to get the number of login cycles a soak run performs.
+     * @return The soak cycle count.
+     */
+    public int getSoakCycles() {
+        return getInt("soak.cycles");
+    }
+
+    /**
+     * Method to get how many soak cycles pass between two memory samples.
+     * @return The sampling interval in cycles.
+     */
+    public int getSoakSampleEvery() {
+        return getInt("soak.sample.every");
+    }
+
+    /**
+     * Method to get how many soak cycles run before the first memory sample.
+     * @return The warm-up cycle count.
+     */
+    public int getSoakWarmupCycles() {
+        return getInt("soak.warmup.cycles");
+    }
+
+    /**
+     * Method to get the significance level at which a growing memory metric is flagged.
+     * @return The trend test alpha.
+     */
+    public double getSoakAlpha() {
+        return getDouble("soak.alpha");
+    }
+
+    /**
+     * Method to get the directory the soak time series is written to.
+     * @return The soak directory inside the report directory.
+     */
+    public Path getSoakDir() {
+        return getReportDir().resolve("soak");
+    }
+
+    /**
+     * Method to check whether every browser is wrapped with WebDriver command instrumentation.
+     * @return True if commands are timed and counted.
+     */
+    public boolean isInstrumentationEnabled() {
+        return getBoolean("instrumentation.enabled");
+    }
+
+    /**
+     * Method to get the largest number of WebDriver commands a single test may issue.
+     * @return The command-count budget, or 0 for no limit.
+     */
+    public int getCommandBudget() {
+        return getInt("budget.commands.max");
+    }
+
+    /**
+     * Method to get the largest total time a single test may spend in WebDriver commands.
+     * @return The command-time budget, or zero for no limit.
+     */
+    public Duration getCommandTimeBudget() {
+        return getDuration("budget.commands.time");
+    }
+
+    /**
+     * Method to get the directory harness reports are written to.
+     * @return The report directory.
+     */
+    public Path getReportDir() {
+        return Path.of(getString("report.dir"));
+    }
+
+    /**
+     * Method to check whether each test records its network traffic to a HAR file.
+     * @return True if network capture is enabled.
+     */
+    public boolean isNetworkCaptureEnabled() {
+        return getBoolean("network.capture");
+    }
+
+    /**
+     * Method to get the directory per-test HAR files are written to.
+     * @return The HAR directory inside the report directory.
+     */
+    public Path getHarDir() {
+        return getReportDir().resolve("har");
+    }
+
+    /**
+     * Method to get how many browsers of the default profile are started in the background before the first test.
+     * @return The number of prewarmed sessions, or 0 to start browsers on demand.
+     */
+    public int getPoolPrewarm() {
+        return getInt("pool.prewarm");
+    }
+
+    /**
+     * Method to get an explicit ChromeDriver binary, e.g. on runners without network access.
+     * @return The binary path, or an empty string to resolve it automatically.
+     */
+    public String getDriverBinary() {
+        return getString("driver.binary");
+    }
+
+    /**
+     * Method to get the file that remembers the resolved ChromeDriver binary per installed Chrome version.
+     * @return The driver cache file.
+     */
+    public Path getDriverCacheFile() {
+        return Path.of(getString("driver.cache.file"));
+    }
+
+    /**
+     * Method to check whether browsers are requested from a Selenium Grid instead of started in this JVM.
+     * @return True for driver.mode=remote, false for driver.mode=local.
+     */
+    public boolean isRemoteDriver() {
+        String mode = getString("driver.mode");
+        if (!List.of("local", "remote").contains(mode.toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("driver.mode must be local or remote but was '" + mode + "'");
+        }
+        return mode.equalsIgnoreCase("remote");
+    }
+
+    /**
+     * Method to get the URL of the Selenium Grid that remote sessions are requested from.
+     * @return The hub or standalone URL.
+     */
+    public URI getGridUrl() {
+        URI url = URI.create(getString("grid.url"));
+        if (!"http".equals(url.getScheme()) && !"https".equals(url.getScheme())) {
+            throw new IllegalArgumentException("grid.url must be an http(s) URL but was '" + url + "'");
+        }
+        return url;
+    }
+
+    /**
+     * Method to check whether the suite starts its own Selenium Grid on the port of grid.url.
+     * @return True if an embedded grid is started.
+     */
+    public boolean isGridEmbedded() {
+        return getBoolean("grid.embedded");
+    }
+
+    /**
+     * Method to get the number of nodes of the embedded grid.
+     * @return The node count.
+     */
+    public int getGridNodes() {
+        return getInt("grid.nodes");
+    }
+
+    /**
+     * Method to get how many browsers each node of the embedded grid runs at once.
+     * @return The sessions per node.
+     */
+    public int getGridNodeMaxSessions() {
+        return getInt("grid.node.max.sessions");
+    }
+
+    /**
+     * Method to check whether the screenshot, page source and console log of failed tests are saved.
+     * @return True if failure artifacts are captured.
+     */
+    public boolean isArtifactCaptureEnabled() {
+        return getBoolean("artifacts.enabled");
+    }
+
+    /**
+     * Method to get the number of background threads that compress and write failure artifacts.
+     * @return The writer thread count.
+     */
+    public int getArtifactThreads() {
+        return getInt("artifacts.threads");
+    }
+
+    /**
+     * Method to get how many failures may wait for a writer before the failing test writes its own artifacts.
+     * @return The writer queue size.
+     */
+    public int getArtifactQueueSize() {
+        return getInt("artifacts.queue.size");
+    }
+
+    /**
+     * Method to get the most failure artifact data written per run.
+     * @return The cap in bytes.
+     */
+    public long getArtifactMaxBytes() {
+        return getInt("artifacts.max.mb") * 1024L * 1024L;
+    }
+
+    /**
+     * Method to get the directory failure artifact archives are written to.
+     * @return The artifact directory inside the report directory.
+     */
+    public Path getArtifactDir() {
+        return getReportDir().resolve("artifacts");
+    }
+
+    /**
+     * Method to get the directory the committed visual baselines are read from.
+     * @return The baseline directory.
+     */
+    public Path getVisualBaselineDir() {
+        return Path.of(getString("visual.baseline.dir"));
+    }
+
+    /**
+     * Method to check whether visual baselines are recorded instead of checked in this run.
+     * @return True in recording mode.
+     */
+    public boolean isVisualRecording() {
+        return getBoolean("visual.record");
+    }
+
+    /**
+     * Method to get the directory screenshots and diff images of visual mismatches are written to.
+     * @return The visual output directory inside the report directory.
+     */
+    public Path getVisualOutputDir() {
+        return getReportDir().resolve("visual");
+    }
+
+    /**
+     * Method to get the largest color channel difference that still counts as the same pixel.
+     * @return The tolerance, 0 to 255.
+     */
+    public int getVisualPixelTolerance() {
+        return getInt("visual.pixel.tolerance");
+    }
+
+    /**
+     * Method to get the largest share of pixels that may differ for a screenshot to match its baseline.
+     * @return The ratio, 0 to 1.
+     */
+    public double getVisualMaxDiffRatio() {
+        return getDouble("visual.max.diff.ratio");
+    }
+
+    /**
+     * Method to get the largest perceptual hash distance that is still compared pixel by pixel.
+     * @return The distance, 0 to 64.
+     */
+    public int getVisualMaxHashDistance() {
+        return getInt("visual.max.hash.distance");
+    }
+
+    /**
+     * Method to get the number of JVMs the suite is split across.
+     * @return The shard count, 1 when the suite is not sharded.
+     */
+    public int getShardCount() {
+        return getInt("shard.count");
+    }
+
+    /**
+     * Method to get which shard this JVM runs.
+     * @return The zero-based shard index.
+     */
+    public int getShardIndex() {
+        return getInt("shard.index");
+    }
+
+    /**
+     * Method to get the persisted test durations used to balance shards.
+     * @return The timings file.
+     */
+    public Path getTimingsFile() {
+        return Path.of(getString("shard.timings.file"));
+    }
+
+    /**
+     * Method to check whether tests that passed before and whose inputs are unchanged are skipped.
+     * @return False to force a full run.
+     */
+    public boolean isIncrementalSelection() {
+        return getBoolean("selection.incremental");
+    }
+
+    /**
+     * Method to get the file with the inputs and outcomes of earlier runs used for test selection.
+     * @return The selection file.
+     */
+    public Path getSelectionFile() {
+        return Path.of(getString("selection.file"));
+    }
+
+    /**
+     * Method to get a raw configuration value.
+     * @param key The property key.
+     * @return The value.
+     * @throws IllegalArgumentException If the key is not configured.
+     */
+    public String getString(String key) {
+        TestInputs.config(key);
+        String value = properties.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing configuration key: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Method to get an integer configuration value.
+     * @param key The property key.
+     * @return The parsed value.
+     */
+    public int getInt(String key) {
+        String value = getString(key);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be an integer but was '" + value + "'");
+        }
+    }
+
+    /**
+     * Method to get a decimal configuration value.
+     * @param key The property key.
+     * @return The parsed value.
+     */
+    public double getDouble(String key) {
+        String value = getString(key);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a number but was '" + value + "'");
+        }
+    }
+
+    /**
+     * Method to get a boolean configuration value; only "true" and "false" are accepted.
+     * @param key The property key.
+     * @return The parsed value.
+     */
+    public boolean getBoolean(String key) {
+        String value = getString(key);
+        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException(key + " must be true or false but was '" + value + "'");
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Method to get a duration configuration value such as 250ms, 10s, 2m or 1h.
+     * A plain number is read as milliseconds.
+     * @param key The property key.
+     * @return The parsed value.
+     */
+    public Duration getDuration(String key) {
+        String value = getString(key).toLowerCase(Locale.ROOT);
+        try {
+            if (!value.isEmpty() && Character.isDigit(value.charAt(value.length() - 1))) {
+                return Duration.ofMillis(Long.parseLong(value)); // No suffix to strip, even for a single digit
+            }
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).trim()));
+            }
+            long amount = Long.parseLong(value.substring(0, value.length() - 1).trim());
+            switch (value.charAt(value.length() - 1)) {
+                case 's': return Duration.ofSeconds(amount);
+                case 'm': return Duration.ofMinutes(amount);
+                case 'h': return Duration.ofHours(amount);
+                default: throw new NumberFormatException("Unknown unit");
+            }
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(key + " must be a duration like 500ms or 10s but was '" + value + "'");
+        }
+    }
+
+    /**
+     * Checks every known key up front so a bad override is reported before any browser starts.
+     */
+    private void validate() {
+        List<String> problems = new ArrayList<>();
+        check(problems, () -> URI.create(getString("base.url")).toURL());
+        check(problems, () -> requirePositive("pool.size"));
+        check(problems, () -> requirePositive("pool.max.uses"));
+        check(problems, () -> requirePositive("parallel.threads"));
+        check(problems, this::getParallelMode);
+        check(problems, this::isLocalSiteEnabled);
+        check(problems, this::getLocalSitePort);
+        check(problems, this::getGlitchDelay);
+        check(problems, () -> requireProfile(getDefaultBrowserProfile()));
+        properties.keySet().stream()
+                .filter(key -> key.startsWith(PROFILE_SELECTION_PREFIX))
+                .forEach(key -> check(problems, () -> requireProfile(properties.get(key))));
+        check(problems, this::getWaitTimeout);
+        check(problems, this::getLoginMatrix);
+        check(problems, this::getOpenPageBudget);
+        check(problems, () -> requirePositive("load.sessions"));
+        check(problems, this::getLoadDuration);
+        check(problems, this::getLoadIterations);
+        check(problems, this::getLoadPacing);
+        check(problems, this::getLoadP99Budget);
+        check(problems, () -> requirePositive("soak.cycles"));
+        check(problems, () -> requirePositive("soak.sample.every"));
+        check(problems, () -> requireRange("soak.warmup.cycles", getSoakWarmupCycles(), 0, getSoakCycles() - 1));
+        check(problems, () -> requireRange("soak.alpha", getSoakAlpha(), 0.0001, 0.5));
+        check(problems, this::isInstrumentationEnabled);
+        check(problems, this::getCommandBudget);
+        check(problems, this::getCommandTimeBudget);
+        check(problems, this::getReportDir);
+        check(problems, this::isNetworkCaptureEnabled);
+        check(problems, this::getPoolPrewarm);
+        check(problems, this::getDriverBinary);
+        check(problems, this::getDriverCacheFile);
+        check(problems, this::isRemoteDriver);
+        check(problems, this::getGridUrl);
+        check(problems, this::isGridEmbedded);
+        check(problems, () -> requirePositive("grid.nodes"));
+        check(problems, () -> requirePositive("grid.node.max.sessions"));
+        check(problems, this::isArtifactCaptureEnabled);
+        check(problems, () -> requirePositive("artifacts.threads"));
+        check(problems, () -> requirePositive("artifacts.queue.size"));
+        check(problems, () -> requirePositive("artifacts.max.mb"));
+        check(problems, this::getVisualBaselineDir);
+        check(problems, this::isVisualRecording);
+        check(problems, () -> requireRange("visual.pixel.tolerance", getVisualPixelTolerance(), 0, 255));
+        check(problems, () -> requireRange("visual.max.diff.ratio", getVisualMaxDiffRatio(), 0, 1));
+        check(problems, () -> requireRange("visual.max.hash.distance", getVisualMaxHashDistance(), 0, 64));
+        check(problems, () -> requirePositive("shard.count"));
+        check(problems, this::getShardIndex);
+        check(problems, this::getTimingsFile);
+        check(problems, this::isIncrementalSelection);
+        check(problems, this::getSelectionFile);
+        if (problems.isEmpty() && getPoolSize() < getParallelThreads()) {
+            problems.add("pool.size (" + getPoolSize() + ") must be at least parallel.threads (" + getParallelThreads() + ")");
+        }
+        if (problems.isEmpty() && (getShardIndex() < 0 || getShardIndex() >= getShardCount())) {
+            problems.add("shard.index (" + getShardIndex() + ") must be between 0 and shard.count - 1 (" + (getShardCount() - 1) + ")");
+        }
+        if (problems.isEmpty() && isRemoteDriver() && isGridEmbedded()
+                && (!List.of("localhost", "127.0.0.1").contains(getGridUrl().getHost()) || getGridUrl().getPort() < 1)) {
+            problems.add("grid.embedded needs grid.url on localhost with an explicit port but was " + getGridUrl());
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration: " + String.join("; ", problems));
+        }
+    }
+
+    private void requireProfile(String name) {
+        String prefix = "browser.profile." + name + ".";
+        getBoolean(prefix + "headless");
+        getString(prefix + "block");
+        String windowSize = getString(prefix + "window.size");
+        if (!windowSize.matches("(\\d+,\\d+)?")) {
+            throw new IllegalArgumentException(prefix + "window.size must be <width>,<height> or empty but was '" + windowSize + "'");
+        }
+        String strategy = getString(prefix + "page.load.strategy");
+        if (!List.of("normal", "eager", "none").contains(strategy.toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException(prefix + "page.load.strategy must be normal, eager or none but was '" + strategy + "'");
+        }
+    }
+
+    private void requirePositive(String key) {
+        if (getInt(key) < 1) {
+            throw new IllegalArgumentException(key + " must be positive");
+        }
+    }
+
+    private static void requireRange(String key, Number value, Number min, Number max) {
+        if (value.doubleValue() < min.doubleValue() || value.doubleValue() > max.doubleValue()) {
+            throw new IllegalArgumentException(key + " must be between " + min + " and " + max + " but was " + value);
+        }
+    }
+
+    private static void check(List<String> problems, Check check) {
+        try {
+            check.run();
+        } catch (Exception e) {
+            problems.add(e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        void run() throws Exception;
     }
 }
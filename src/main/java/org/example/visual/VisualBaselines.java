@@ -0,0 +1,175 @@
+package org.example.visual;
+
+import org.example.selection.TestInputs;
+import org.example.utils.ConfigReader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Stores baseline screenshots by name and compares new screenshots against them.
+ * Baselines are committed to the baseline directory; a missing one fails the comparison, so tests check
+ * {@link #missingBaseline(String)} first and skip until it is recorded. They are
+ * only recorded in recording mode, and then to the output directory, never to the source tree:
+ * review the recorded files and copy them to the baseline directory to accept them. While recording,
+ * comparisons use the baselines recorded earlier in the same run.
+ * On a mismatch the captured screenshot and a diff image are written next to each other in the
+ * output directory; nothing is written for a match.
+ */
+public class VisualBaselines {
+
+    private final Path baselineDir;
+    private final Path outputDir;
+    private final boolean recording;
+
+    /**
+     * Constructor to use a baseline directory.
+     * @param baselineDir Where the committed baselines are read from.
+     * @param outputDir Where recorded baselines, and captured screenshots and diff images of mismatches, are written.
+     * @param recording True to record baselines instead of checking against the committed ones.
+     */
+    public VisualBaselines(Path baselineDir, Path outputDir, boolean recording) {
+        this.baselineDir = baselineDir;
+        this.outputDir = outputDir;
+        this.recording = recording;
+    }
+
+    /**
+     * Method to use the directories and recording mode from config.properties.
+     * @param configReader The configuration.
+     * @return The baselines of the configured directories.
+     */
+    public static VisualBaselines fromConfig(ConfigReader configReader) {
+        return new VisualBaselines(configReader.getVisualBaselineDir(), configReader.getVisualOutputDir(),
+                configReader.isVisualRecording());
+    }
+
+    /**
+     * Method to check whether baselines are being recorded in this run.
+     * @return True in recording mode.
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Method to find out whether a baseline can be compared with, so a test can skip instead of failing without it.
+     * @param name The baseline name.
+     * @return How to record the baseline, or null if it exists or is being recorded in this run.
+     */
+    public String missingBaseline(String name) {
+        if (recording || Files.exists(baseline(name))) {
+            return null;
+        }
+        return "No visual baseline " + baseline(name) + "; record it with -Dvisual.record=true, "
+                + "then review and commit the file written to " + recorded(name);
+    }
+
+    /**
+     * Method to record a baseline into the output directory, replacing one recorded earlier in the run.
+     * @param name The baseline name, e.g. "inventory".
+     * @param png The screenshot as PNG.
+     * @return The recorded file.
+     */
+    public Path record(String name, byte[] png) {
+        Path recorded = recorded(name);
+        write(recorded, png);
+        return recorded;
+    }
+
+    /**
+     * Method to check a screenshot against its baseline, or to record it as the baseline in recording mode.
+     * @param name The baseline name.
+     * @param png The screenshot as PNG.
+     * @param diff The comparison to use.
+     * @return The outcome, with the diff image attached on a mismatch.
+     * @throws IllegalStateException If the baseline is missing outside recording mode.
+     */
+    public VisualDiffResult check(String name, byte[] png, VisualDiff diff) {
+        if (recording) {
+            return new VisualDiffResult(true, -1, 0, 0, Duration.ZERO, "baseline recorded to " + record(name, png)
+                    + ", copy it to " + baselineDir + " to accept it", null);
+        }
+        return compare(name, png, diff);
+    }
+
+    /**
+     * Method to compare a screenshot with its baseline without ever recording it, e.g. for a screenshot
+     * that must differ from the baseline.
+     * @param name The baseline name.
+     * @param png The screenshot as PNG.
+     * @param diff The comparison to use.
+     * @return The outcome, with the diff image attached on a mismatch.
+     * @throws IllegalStateException If the baseline is missing.
+     */
+    public VisualDiffResult compare(String name, byte[] png, VisualDiff diff) {
+        BufferedImage expected = decode(readBaseline(name));
+        BufferedImage actual = decode(png);
+        VisualDiffResult result = diff.compare(expected, actual);
+        if (result.matched()) {
+            return result;
+        }
+        write(outputDir.resolve(name + ".actual.png"), png);
+        Path diffImage = outputDir.resolve(name + ".diff.png");
+        try {
+            Files.createDirectories(outputDir);
+            ImageIO.write(diff.diffImage(expected, actual), "png", diffImage.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write diff image " + diffImage, e);
+        }
+        return result.withDiffImage(diffImage);
+    }
+
+    /**
+     * Decodes a PNG once into the packed int RGB layout VisualDiff compares.
+     */
+    static BufferedImage decode(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IllegalArgumentException("Not a readable image");
+            }
+            return VisualDiff.toIntRgb(image);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] readBaseline(String name) {
+        Path baseline = recording && Files.exists(recorded(name)) ? recorded(name) : baseline(name);
+        if (!Files.exists(baseline)) {
+            throw new IllegalStateException(recording ? "No visual baseline " + name + " was recorded earlier in this run"
+                    : missingBaseline(name));
+        }
+        try {
+            return Files.readAllBytes(baseline);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read baseline " + baseline, e);
+        }
+    }
+
+    private Path recorded(String name) {
+        return outputDir.resolve("baselines").resolve(name + ".png");
+    }
+
+    private Path baseline(String name) {
+        Path baseline = baselineDir.resolve(name + ".png");
+        TestInputs.fixture(baseline);
+        return baseline;
+    }
+
+    private static void write(Path file, byte[] bytes) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package org.example.visual;
+
+import org.example.utils.ConfigReader;
+import org.openqa.selenium.Rectangle;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable screenshot comparison with a per-channel tolerance and ignore regions.
+ * <pre>
+ *     VisualDiff.fromConfig(configReader).ignore(clockRegion).compare(baseline, actual);
+ * </pre>
+ * The comparison is staged so that the common cases stay cheap: identical buffers match after one
+ * array comparison, and clearly different screenshots are rejected by a 64-bit perceptual hash
+ * before any pixel is counted. Only the remaining cases run the pixel diff, which splits the image
+ * into tiles that are compared in parallel on packed int[] pixel buffers.
+ */
+public final class VisualDiff {
+
+    private static final int TILE = 128;              // Tile edge in pixels for the parallel diff
+    private static final int HASH_WIDTH = 9;          // dHash compares 9 columns pairwise, giving 8 bits per row
+    private static final int HASH_HEIGHT = 8;
+    private static final int HASH_SAMPLES = 4;        // Samples per cell edge when shrinking the image for the hash
+    private static final int DIFF_COLOR = 0xFF0000;
+    private static final int IGNORED_COLOR = 0x3060FF;
+
+    private final int pixelTolerance;
+    private final double maxDiffRatio;
+    private final int maxHashDistance;
+    private final List<Rectangle> ignored;
+
+    /**
+     * Constructor to create a comparison without ignore regions.
+     * @param pixelTolerance The largest difference (0-255) in any color channel still counted as equal.
+     * @param maxDiffRatio The largest share of compared pixels that may differ for a match.
+     * @param maxHashDistance The largest perceptual hash distance (0-64) that is still checked pixel by pixel.
+     */
+    public VisualDiff(int pixelTolerance, double maxDiffRatio, int maxHashDistance) {
+        this(pixelTolerance, maxDiffRatio, maxHashDistance, Collections.emptyList());
+    }
+
+    private VisualDiff(int pixelTolerance, double maxDiffRatio, int maxHashDistance, List<Rectangle> ignored) {
+        this.pixelTolerance = pixelTolerance;
+        this.maxDiffRatio = maxDiffRatio;
+        this.maxHashDistance = maxHashDistance;
+        this.ignored = ignored;
+    }
+
+    /**
+     * Method to create a comparison with the tolerances from config.properties.
+     * @param configReader The configuration.
+     * @return A comparison without ignore regions.
+     */
+    public static VisualDiff fromConfig(ConfigReader configReader) {
+        return new VisualDiff(configReader.getVisualPixelTolerance(), configReader.getVisualMaxDiffRatio(),
+                configReader.getVisualMaxHashDistance());
+    }
+
+    /**
+     * Method to exclude a region, such as a blinking caret or a clock, from the comparison.
+     * @param region The region in screenshot pixels.
+     * @return A new comparison including the region.
+     */
+    public VisualDiff ignore(Rectangle region) {
+        List<Rectangle> copy = new ArrayList<>(ignored);
+        copy.add(region);
+        return new VisualDiff(pixelTolerance, maxDiffRatio, maxHashDistance, Collections.unmodifiableList(copy));
+    }
+
+    /**
+     * Method to compare a screenshot with its baseline.
+     * @param baseline The expected image.
+     * @param actual The captured image.
+     * @return The outcome; no diff image is attached.
+     */
+    public VisualDiffResult compare(BufferedImage baseline, BufferedImage actual) {
+        long start = System.nanoTime();
+        int width = baseline.getWidth();
+        int height = baseline.getHeight();
+        if (actual.getWidth() != width || actual.getHeight() != height) {
+            return result(start, false, -1, -1, (long) width * height, "size " + actual.getWidth() + "x" + actual.getHeight()
+                    + " differs from baseline " + width + "x" + height);
+        }
+
+        int[] expected = pixels(baseline);
+        int[] captured = pixels(actual);
+        if (ignored.isEmpty() && Arrays.equals(expected, captured)) {
+            return result(start, true, 0, 0, (long) width * height, "identical");
+        }
+
+        int hashDistance = Long.bitCount(hash(expected, width, height) ^ hash(captured, width, height));
+        if (hashDistance > maxHashDistance) {
+            return result(start, false, hashDistance, -1, -1, "perceptual hash distance " + hashDistance
+                    + " exceeds " + maxHashDistance);
+        }
+
+        int columns = (width + TILE - 1) / TILE;
+        int tiles = columns * ((height + TILE - 1) / TILE);
+        long[] different = new long[tiles];
+        long[] compared = new long[tiles];
+        IntStream.range(0, tiles).parallel().forEach(tile -> {
+            int x0 = (tile % columns) * TILE;
+            int y0 = (tile / columns) * TILE;
+            compareTile(expected, captured, width, x0, y0, Math.min(x0 + TILE, width), Math.min(y0 + TILE, height),
+                    different, compared, tile);
+        });
+        long differentPixels = Arrays.stream(different).sum();
+        long comparedPixels = Arrays.stream(compared).sum();
+        boolean matched = differentPixels <= maxDiffRatio * comparedPixels;
+        return result(start, matched, hashDistance, differentPixels, comparedPixels,
+                differentPixels + " of " + comparedPixels + " pixels differ");
+    }
+
+    /**
+     * Method to render where two images differ: differing pixels in red, ignored regions in blue,
+     * and everything else as a faded copy of the captured image.
+     * @param baseline The expected image.
+     * @param actual The captured image.
+     * @return The diff image, the size of the captured image.
+     */
+    public BufferedImage diffImage(BufferedImage baseline, BufferedImage actual) {
+        int width = actual.getWidth();
+        int height = actual.getHeight();
+        boolean sameSize = baseline.getWidth() == width && baseline.getHeight() == height;
+        int[] expected = sameSize ? pixels(baseline) : null;
+        int[] captured = pixels(actual);
+        BufferedImage diff = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] out = ((DataBufferInt) diff.getRaster().getDataBuffer()).getData();
+
+        IntStream.range(0, height).parallel().forEach(y -> {
+            for (int x = 0, i = y * width; x < width; x++, i++) {
+                if (isIgnored(x, y)) {
+                    out[i] = IGNORED_COLOR;
+                } else if (expected == null || exceedsTolerance(expected[i], captured[i])) {
+                    out[i] = DIFF_COLOR;
+                } else {
+                    out[i] = fade(captured[i]);
+                }
+            }
+        });
+        return diff;
+    }
+
+    private void compareTile(int[] expected, int[] captured, int width, int x0, int y0, int x1, int y1,
+                             long[] different, long[] compared, int tile) {
+        List<Rectangle> regions = regionsIntersecting(x0, y0, x1, y1);
+        long differentPixels = 0;
+        long comparedPixels = 0;
+        for (int y = y0; y < y1; y++) {
+            int row = y * width;
+            int x = x0;
+            while (x < x1) {
+                // Skip over any ignore region covering x, then compare up to where the next one starts
+                int next = x1;
+                int skipTo = -1;
+                for (Rectangle region : regions) {
+                    if (y >= region.getY() && y < region.getY() + region.getHeight()) {
+                        if (x >= region.getX() && x < region.getX() + region.getWidth()) {
+                            skipTo = region.getX() + region.getWidth();
+                            break;
+                        }
+                        if (region.getX() > x) {
+                            next = Math.min(next, region.getX());
+                        }
+                    }
+                }
+                if (skipTo >= 0) {
+                    x = skipTo;
+                    continue;
+                }
+                comparedPixels += next - x;
+                for (int i = row + x, end = row + next; i < end; i++) {
+                    if (expected[i] != captured[i] && exceedsTolerance(expected[i], captured[i])) {
+                        differentPixels++;
+                    }
+                }
+                x = next;
+            }
+        }
+        different[tile] = differentPixels;
+        compared[tile] = comparedPixels;
+    }
+
+    private boolean exceedsTolerance(int expected, int captured) {
+        return Math.abs(((expected >> 16) & 0xFF) - ((captured >> 16) & 0xFF)) > pixelTolerance
+                || Math.abs(((expected >> 8) & 0xFF) - ((captured >> 8) & 0xFF)) > pixelTolerance
+                || Math.abs((expected & 0xFF) - (captured & 0xFF)) > pixelTolerance;
+    }
+
+    /**
+     * Difference hash: shrinks the image to 9x8 luminance cells by sampling, skipping ignored pixels,
+     * and sets one bit per cell that is brighter than its right neighbour.
+     */
+    private long hash(int[] pixels, int width, int height) {
+        double[] cells = new double[HASH_WIDTH * HASH_HEIGHT];
+        for (int cy = 0; cy < HASH_HEIGHT; cy++) {
+            for (int cx = 0; cx < HASH_WIDTH; cx++) {
+                double sum = 0;
+                int samples = 0;
+                for (int sy = 0; sy < HASH_SAMPLES; sy++) {
+                    int y = (int) (((cy * HASH_SAMPLES + sy + 0.5) * height) / (HASH_HEIGHT * HASH_SAMPLES));
+                    for (int sx = 0; sx < HASH_SAMPLES; sx++) {
+                        int x = (int) (((cx * HASH_SAMPLES + sx + 0.5) * width) / (HASH_WIDTH * HASH_SAMPLES));
+                        if (!isIgnored(x, y)) {
+                            sum += luminance(pixels[y * width + x]);
+                            samples++;
+                        }
+                    }
+                }
+                cells[cy * HASH_WIDTH + cx] = samples > 0 ? sum / samples : 0;
+            }
+        }
+        long hash = 0;
+        for (int cy = 0; cy < HASH_HEIGHT; cy++) {
+            for (int cx = 0; cx < HASH_WIDTH - 1; cx++) {
+                hash <<= 1;
+                if (cells[cy * HASH_WIDTH + cx] > cells[cy * HASH_WIDTH + cx + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    private List<Rectangle> regionsIntersecting(int x0, int y0, int x1, int y1) {
+        List<Rectangle> regions = new ArrayList<>();
+        for (Rectangle region : ignored) {
+            if (region.getX() < x1 && region.getX() + region.getWidth() > x0
+                    && region.getY() < y1 && region.getY() + region.getHeight() > y0) {
+                regions.add(region);
+            }
+        }
+        return regions;
+    }
+
+    private boolean isIgnored(int x, int y) {
+        return !ignored.isEmpty() && contains(ignored, x, y);
+    }
+
+    private static boolean contains(List<Rectangle> regions, int x, int y) {
+        for (Rectangle region : regions) {
+            if (x >= region.getX() && x < region.getX() + region.getWidth()
+                    && y >= region.getY() && y < region.getY() + region.getHeight()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double luminance(int rgb) {
+        return 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+    }
+
+    private static int fade(int rgb) {
+        int gray = (int) luminance(rgb);
+        int faded = 255 - (255 - gray) / 3;  // Keep the layout recognizable without competing with the red
+        return (faded << 16) | (faded << 8) | faded;
+    }
+
+    /**
+     * Returns the packed RGB pixels of an image, converting it once if it is not already int-backed.
+     */
+    private static int[] pixels(BufferedImage image) {
+        return ((DataBufferInt) toIntRgb(image).getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Converts an image to TYPE_INT_RGB, the layout compared without copying; such images are returned as is.
+     */
+    static BufferedImage toIntRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = converted.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return converted;
+    }
+
+    private static VisualDiffResult result(long start, boolean matched, int hashDistance, long differentPixels,
+                                           long comparedPixels, String reason) {
+        return new VisualDiffResult(matched, hashDistance, differentPixels, comparedPixels,
+                Duration.ofNanos(System.nanoTime() - start), reason, null);
+    }
+}
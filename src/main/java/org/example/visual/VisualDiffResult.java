@@ -0,0 +1,33 @@
+package org.example.visual;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The outcome of comparing a screenshot with its baseline.
+ * @param matched True if the screenshot is within tolerance of the baseline.
+ * @param hashDistance The Hamming distance between the perceptual hashes (0 to 64), or -1 if not computed.
+ * @param differentPixels Pixels outside the tolerance, or -1 if the comparison stopped before counting them.
+ * @param comparedPixels Pixels outside the ignore regions.
+ * @param elapsed How long the comparison took, excluding image decoding.
+ * @param reason A human-readable explanation of the outcome.
+ * @param diffImage The diff image written for a mismatch, or null.
+ */
+public record VisualDiffResult(boolean matched, int hashDistance, long differentPixels, long comparedPixels,
+                               Duration elapsed, String reason, Path diffImage) {
+
+    /**
+     * Method to attach the diff image written for this result.
+     * @param diffImage The written image.
+     * @return A copy of this result that points to the image.
+     */
+    public VisualDiffResult withDiffImage(Path diffImage) {
+        return new VisualDiffResult(matched, hashDistance, differentPixels, comparedPixels, elapsed, reason, diffImage);
+    }
+
+    @Override
+    public String toString() {
+        return (matched ? "match" : "MISMATCH") + " (" + reason + ", " + elapsed.toMillis() + " ms)"
+                + (diffImage != null ? ", diff: " + diffImage : "");
+    }
+}
@@ -0,0 +1,63 @@
+(function () {
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user', 'performance_glitch_user', 'error_user', 'visual_user'];
+    var ICON = '<svg class="svg-inline--fa fa-times-circle error_icon" viewBox="0 0 512 512" width="16" height="16">'
+        + '<circle cx="256" cy="256" r="248" fill="#e2231a"></circle></svg>';
+
+    var form = document.getElementById('login_form');
+    var username = document.getElementById('user-name');
+    var password = document.getElementById('password');
+    var container = document.querySelector('.error-message-container');
+
+    function clearError() {
+        container.innerHTML = '';
+        container.classList.remove('error');
+        container.style.display = 'none';
+        document.querySelectorAll('.error_icon').forEach(function (icon) { icon.remove(); });
+        username.classList.remove('input_error');
+        password.classList.remove('input_error');
+    }
+
+    function showError(message) {
+        clearError();
+        container.innerHTML = '<h3 data-test="error"><button class="error-button" data-test="error-button">'
+            + '<svg class="svg-inline--fa fa-times" viewBox="0 0 352 512" width="12" height="12">'
+            + '<path d="M0 0L352 512M352 0L0 512" stroke="#fff" stroke-width="60"></path></svg></button>'
+            + message + '</h3>';
+        container.classList.add('error');
+        container.style.display = 'block';
+        [username, password].forEach(function (input) {
+            input.classList.add('input_error');
+            input.insertAdjacentHTML('afterend', ICON);
+        });
+        container.querySelector('.error-button').addEventListener('click', function (event) {
+            event.preventDefault();
+            clearError();
+        });
+    }
+
+    form.addEventListener('submit', function (event) {
+        event.preventDefault();
+        var user = username.value;
+        if (!user) {
+            return showError('Epic sadface: Username is required');
+        }
+        if (!password.value) {
+            return showError('Epic sadface: Password is required');
+        }
+        if (USERS.indexOf(user) < 0 || password.value !== PASSWORD) {
+            return showError('Epic sadface: Username and password do not match any user in this service');
+        }
+        if (user === 'locked_out_user') {
+            return showError('Epic sadface: Sorry, this user has been locked out.');
+        }
+        document.cookie = 'session-username=' + user + '; path=/';
+        window.location.href = '/inventory.html';
+    });
+
+    if (window.location.search.indexOf('error=unauthenticated') >= 0) {
+        showError("Epic sadface: You can only access '/inventory.html' when you are logged in.");
+    } else {
+        clearError();
+    }
+})();
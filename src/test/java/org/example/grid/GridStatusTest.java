@@ -0,0 +1,48 @@
+package org.example.grid;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for reading the capacity of a Selenium Grid from its status response.
+ */
+public class GridStatusTest {
+
+    // Trimmed /status response of a hub: a node with two Chrome slots, a node whose Chrome and Firefox slots
+    // share one session, and a node that is draining
+    private static final String STATUS = "{\"value\": {\"ready\": true, \"message\": \"Selenium Grid ready.\", \"nodes\": ["
+            + node("http://localhost:5555", "UP", 2, "chrome", "chrome") + ","
+            + node("http://localhost:5556", "UP", 1, "chrome", "firefox") + ","
+            + node("http://localhost:5557", "DRAINING", 4, "chrome", "chrome", "chrome", "chrome")
+            + "]}}";
+
+    @Test
+    public void testCapacityCountsSlotsOfNodesThatAreUp() {
+        GridStatus status = GridStatus.parse(STATUS);
+
+        Assert.assertTrue(status.ready());
+        Assert.assertEquals(status.nodes().size(), 3);
+        Assert.assertEquals(status.upNodes(), 2, "A draining node takes no new sessions.");
+        Assert.assertEquals(status.capacity("chrome"), 3, "Slots beyond a node's max sessions must not count.");
+        Assert.assertEquals(status.capacity("firefox"), 1);
+        Assert.assertEquals(status.capacity("safari"), 0);
+    }
+
+    @Test
+    public void testGridWithoutNodesHasNoCapacity() {
+        GridStatus status = GridStatus.parse("{\"value\": {\"ready\": false, \"message\": \"Selenium Grid not ready.\", \"nodes\": []}}");
+
+        Assert.assertFalse(status.ready());
+        Assert.assertEquals(status.capacity("chrome"), 0);
+    }
+
+    private static String node(String uri, String availability, int maxSessions, String... browsers) {
+        StringBuilder slots = new StringBuilder();
+        for (String browser : browsers) {
+            slots.append(slots.isEmpty() ? "" : ",").append("{\"session\": null, \"stereotype\": {\"browserName\": \"")
+                    .append(browser).append("\", \"platformName\": \"linux\"}}");
+        }
+        return "{\"uri\": \"" + uri + "\", \"availability\": \"" + availability + "\", \"maxSessions\": " + maxSessions
+                + ", \"slots\": [" + slots + "]}";
+    }
+}
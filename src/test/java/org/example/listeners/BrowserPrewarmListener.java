@@ -0,0 +1,45 @@
+package org.example.listeners;
+
+import org.example.driver.BrowserProfile;
+import org.example.driver.DriverFactory;
+import org.example.driver.DriverPools;
+import org.example.utils.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * TestNG listener that resolves the ChromeDriver binary and starts pool.prewarm browsers of the
+ * default profile in the background as soon as the suite file is read, while TestNG is still
+ * building the test runners, so the first tests do not pay for a cold browser start.
+ * It also quits every pooled browser when the suite ends, including prewarmed browsers of
+ * suites (or shards) that turned out to contain no browser tests.
+ */
+public class BrowserPrewarmListener implements IAlterSuiteListener, ISuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigReader configReader = ConfigReader.getInstance();
+        int sessions = configReader.getPoolPrewarm();
+        if (sessions < 1) {
+            return;
+        }
+        Thread.ofVirtual().name("driver-prewarm").start(() -> {
+            try {
+                DriverFactory.resolveDriverBinary();
+            } catch (RuntimeException e) {
+                return; // BaseTest resolves it again and reports the failure on the test that needs it
+            }
+            BrowserProfile profile = BrowserProfile.fromConfig(configReader, configReader.getDefaultBrowserProfile());
+            DriverPools.forProfile(profile).prewarm(sessions);
+        });
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DriverPools.shutdownAll();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.listeners;
+
+import org.example.performance.CommandMetrics;
+import org.example.utils.ConfigReader;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * TestNG listener that attributes WebDriver commands to the running test, fails tests that exceed
+ * the configured command-count or command-time budget, and writes the command report
+ * (commands.json and commands.csv) when the suite finishes.
+ */
+public class CommandMetricsListener implements IInvokedMethodListener, ISuiteListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        // Configuration methods such as the pool checkout count as harness commands, not test commands
+        if (method.isTestMethod()) {
+            CommandMetrics.beginTest(testResult.getTestClass().getRealClass().getSimpleName()
+                    + "." + method.getTestMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        CommandMetrics.TestCommands commands = CommandMetrics.endTest();
+        if (commands == null || testResult.getStatus() != ITestResult.SUCCESS) {
+            return;
+        }
+
+        ConfigReader configReader = ConfigReader.getInstance();
+        int maxCommands = configReader.getCommandBudget();
+        Duration maxTime = configReader.getCommandTimeBudget();
+        String violation = null;
+        if (maxCommands > 0 && commands.getCount() > maxCommands) {
+            violation = "issued " + commands.getCount() + " WebDriver commands, budget is " + maxCommands;
+        } else if (!maxTime.isZero() && commands.getTotalNanos() > maxTime.toNanos()) {
+            violation = "spent " + Duration.ofNanos(commands.getTotalNanos()).toMillis()
+                    + " ms in WebDriver commands, budget is " + maxTime.toMillis() + " ms";
+        }
+        if (violation != null) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(commands.getTestName() + " " + violation));
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        CommandMetrics.reset();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Path reportDir = ConfigReader.getInstance().getReportDir();
+        CommandMetrics.writeJson(reportDir.resolve("commands.json"));
+        CommandMetrics.writeCsv(reportDir.resolve("commands.csv"));
+    }
+}
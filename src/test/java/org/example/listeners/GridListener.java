@@ -0,0 +1,42 @@
+package org.example.listeners;
+
+import org.example.driver.DriverPools;
+import org.example.grid.LocalGrid;
+import org.example.utils.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.Reporter;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * TestNG listener that starts the embedded Selenium Grid as soon as the suite file is read, when
+ * driver.mode=remote and grid.embedded are set in config.properties, and stops it after the suite.
+ * It must be registered before the listeners that size the suite or start browsers, since they
+ * ask the grid for its capacity.
+ */
+public class GridListener implements IAlterSuiteListener, ISuiteListener {
+
+    private LocalGrid grid;
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigReader configReader = ConfigReader.getInstance();
+        if (configReader.isRemoteDriver() && configReader.isGridEmbedded() && grid == null) {
+            grid = LocalGrid.fromConfig(configReader).start();
+            Reporter.log("Embedded Selenium Grid with " + configReader.getGridNodes() + " nodes of "
+                    + configReader.getGridNodeMaxSessions() + " sessions started at " + grid.getUrl(), true);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (grid != null) {
+            DriverPools.shutdownAll();  // Quit pooled browsers while their nodes are still up
+            grid.stop();
+            grid = null;
+        }
+    }
+}
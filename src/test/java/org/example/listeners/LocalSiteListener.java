@@ -0,0 +1,31 @@
+package org.example.listeners;
+
+import org.example.stub.LocalSauceDemoServer;
+import org.example.utils.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener that starts the embedded Saucedemo stand-in before the suite
+ * and stops it afterwards, when local.site.enabled is set in config.properties.
+ */
+public class LocalSiteListener implements ISuiteListener {
+
+    private LocalSauceDemoServer server;
+
+    @Override
+    public void onStart(ISuite suite) {
+        ConfigReader configReader = ConfigReader.getInstance();
+        if (configReader.isLocalSiteEnabled()) {
+            server = new LocalSauceDemoServer(configReader.getLocalSitePort(), configReader.getGlitchDelay()).start();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.listeners;
+
+import org.example.selection.InputHasher;
+import org.example.selection.SelectionStore;
+import org.example.selection.TestInputs;
+import org.example.utils.ConfigReader;
+import org.testng.IDataProviderListener;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * TestNG listener for incremental test selection.
+ * While tests run it records which configuration keys, page objects and fixture files each of them read,
+ * and stores the content hash of those inputs with the outcome in selection.file. When
+ * selection.incremental is true, the next run skips every test that passed and whose inputs, test class
+ * and the shared harness inputs are unchanged, and reports the skipped tests through the TestNG reporter.
+ * Sharded runs neither skip nor record, since their shards would overwrite each other's records.
+ */
+public class SelectionListener implements IMethodInterceptor, ITestListener, IDataProviderListener, ISuiteListener {
+
+    private final ConcurrentMap<String, Set<String>> inputs = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Boolean> passed = new ConcurrentHashMap<>();
+    private volatile Set<String> testClasses;
+    private volatile Set<String> unchanged;  // Tests to skip, or null when selection is inactive
+    private volatile TestInputs recording;   // What the tests read, or null when selection is inactive
+
+    @Override
+    public void onStart(ISuite suite) {
+        ConfigReader configReader = ConfigReader.getInstance();  // Loaded before recording starts, so validation reads nothing
+        if (configReader.getShardCount() > 1) {
+            return;
+        }
+        testClasses = suite.getAllMethods().stream().map(method -> method.getRealClass().getName()).collect(Collectors.toSet());
+        unchanged = Set.of();
+        if (configReader.isIncrementalSelection()) {
+            List<String> tests = suite.getAllMethods().stream().map(SelectionListener::testName).distinct().toList();
+            unchanged = SelectionStore.load(configReader.getSelectionFile()).unchanged(tests, hasher(configReader));
+            if (!unchanged.isEmpty()) {
+                Reporter.log("Incremental selection skips " + unchanged.size() + " of " + tests.size()
+                        + " tests whose inputs are unchanged since they passed (-Dselection.incremental=false runs all): " + unchanged, true);
+            }
+        }
+        recording = TestInputs.start();
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Set<String> skipped = unchanged;
+        if (skipped == null || skipped.isEmpty()) {
+            return methods;
+        }
+        return methods.stream().filter(method -> !skipped.contains(testName(method.getMethod()))).collect(Collectors.toList());
+    }
+
+    @Override
+    public void beforeDataProviderExecution(IDataProviderMethod dataProviderMethod, ITestNGMethod method, ITestContext context) {
+        begin();
+    }
+
+    @Override
+    public void afterDataProviderExecution(IDataProviderMethod dataProviderMethod, ITestNGMethod method, ITestContext context) {
+        addInputs(testName(method), end());
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        begin();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finish(result, true);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finish(result, false);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finish(result, false);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        finish(result, false);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (unchanged == null) {
+            return;
+        }
+        recording.stop();
+        ConfigReader configReader = ConfigReader.getInstance();
+        InputHasher hasher = hasher(configReader);  // Fresh, so files written during the run are hashed as they are now
+
+        SelectionStore store = SelectionStore.load(configReader.getSelectionFile());
+        passed.forEach((test, success) -> {
+            Set<String> testInputs = new HashSet<>(inputs.getOrDefault(test, Set.of()));
+            testInputs.add("class:" + test.substring(0, test.lastIndexOf('.')));
+            store.put(test, new SelectionStore.Entry(hasher.hash(testInputs), success, testInputs));
+        });
+        Set<String> shared = new HashSet<>(recording.shared());
+        shared.add(InputHasher.HARNESS);
+        store.put(SelectionStore.SHARED, new SelectionStore.Entry(hasher.hash(shared), true, shared));
+        store.save(configReader.getSelectionFile());
+        if (!unchanged.isEmpty()) {
+            // The skipped tests are not in TestNG's totals, so say how many there were next to them
+            Reporter.log("Incremental selection: " + passed.size() + " tests ran, " + unchanged.size()
+                    + " unchanged tests were skipped as passed", true);
+        }
+    }
+
+    private void finish(ITestResult result, boolean success) {
+        String test = testName(result.getMethod());
+        addInputs(test, end());
+        // A data-driven test only counts as passed when every invocation passed
+        passed.merge(test, success, Boolean::logicalAnd);
+    }
+
+    private void begin() {
+        TestInputs current = recording;
+        if (current != null) {
+            current.begin();
+        }
+    }
+
+    private Set<String> end() {
+        TestInputs current = recording;
+        return current == null ? Set.of() : current.end();
+    }
+
+    private void addInputs(String test, Set<String> recorded) {
+        inputs.computeIfAbsent(test, key -> ConcurrentHashMap.newKeySet()).addAll(recorded);
+    }
+
+    private InputHasher hasher(ConfigReader configReader) {
+        return new InputHasher(configReader, SelectionListener.class.getClassLoader(), testClasses);
+    }
+
+    /**
+     * Names tests by their fully qualified class, so the class file of a test can be found from its name.
+     */
+    private static String testName(ITestNGMethod method) {
+        return method.getRealClass().getName() + "." + method.getMethodName();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.listeners;
+
+import org.example.sharding.ShardPlanner;
+import org.example.sharding.TestTimings;
+import org.example.utils.ConfigReader;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * TestNG listener that runs only this JVM's share of the suite when shard.count is above 1,
+ * and records how long every test method took so future runs can balance the shards.
+ * Measured durations go to report.dir/timings.properties; an unsharded run also folds them into
+ * shard.timings.file, while sharded runs leave that to ShardRunner.
+ */
+public class ShardListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private final TestTimings measured = new TestTimings();
+    private volatile Set<String> assigned;  // Tests of this shard, or null to run everything
+
+    @Override
+    public void onStart(ISuite suite) {
+        ConfigReader configReader = ConfigReader.getInstance();
+        if (configReader.getShardCount() > 1) {
+            List<String> tests = suite.getAllMethods().stream().map(ShardListener::testName).toList();
+            List<List<String>> plan = ShardPlanner.plan(tests, TestTimings.load(configReader.getTimingsFile()),
+                    configReader.getShardCount());
+            assigned = new HashSet<>(plan.get(configReader.getShardIndex()));
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Set<String> tests = assigned;
+        if (tests == null) {
+            return methods;
+        }
+        return methods.stream().filter(method -> tests.contains(testName(method.getMethod()))).collect(Collectors.toList());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ConfigReader configReader = ConfigReader.getInstance();
+        measured.save(configReader.getReportDir().resolve(TestTimings.RUN_FILE));
+        if (configReader.getShardCount() == 1) {
+            TestTimings history = TestTimings.load(configReader.getTimingsFile());
+            history.update(measured);
+            history.save(configReader.getTimingsFile());
+        }
+    }
+
+    private void record(ITestResult result) {
+        // Invocations of a data-driven test add up, since the whole method always runs on one shard
+        measured.add(testName(result.getMethod()), Duration.ofMillis(result.getEndMillis() - result.getStartMillis()));
+    }
+
+    /**
+     * Names tests the same way as CommandMetricsListener, so reports and timings line up.
+     */
+    private static String testName(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.listeners;
+
+import org.example.driver.DriverFactory;
+import org.example.utils.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * TestNG listener that applies the parallel settings from config.properties to every suite
+ * before it runs, so thread counts can be tuned per machine without editing testng.xml.
+ * On a Selenium Grid the thread count is capped at the sessions the grid can run, so the same
+ * suite fills a laptop's embedded grid or a multi-node farm without edits.
+ */
+public class SuiteConfigListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigReader configReader = ConfigReader.getInstance();
+        int threads = Math.min(configReader.getParallelThreads(), DriverFactory.sessionLimit());
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(configReader.getParallelMode());
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threads);
+            suite.setDataProviderThreadCount(threads); // Parallel data providers share the same browser budget
+        }
+    }
+}
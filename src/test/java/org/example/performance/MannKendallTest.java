@@ -0,0 +1,57 @@
+package org.example.performance;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Unit tests for the trend detection of MannKendall.
+ */
+public class MannKendallTest {
+
+    @Test
+    public void testSteadyGrowthUnderNoiseIsIncreasing() {
+        Random random = new Random(7);
+        double[] series = new double[40];
+        for (int i = 0; i < series.length; i++) {
+            series[i] = 10_000_000 + i * 20_000 + random.nextGaussian() * 100_000;  // A slow leak below the noise of one sample
+        }
+
+        MannKendall.Trend trend = MannKendall.test(series);
+
+        Assert.assertTrue(trend.isIncreasing(0.01), trend.toString());
+        Assert.assertEquals(trend.slope(), 20_000, 10_000);
+    }
+
+    @Test
+    public void testNoiseAndPlateausAreNotIncreasing() {
+        Random random = new Random(7);
+        double[] noise = new double[40];
+        for (int i = 0; i < noise.length; i++) {
+            noise[i] = 10_000_000 + random.nextGaussian() * 100_000;
+        }
+        double[] plateau = new double[40];
+        Arrays.fill(plateau, 1_500);  // A constant DOM node count ties every pair
+
+        Assert.assertFalse(MannKendall.test(noise).isIncreasing(0.01), MannKendall.test(noise).toString());
+        Assert.assertFalse(MannKendall.test(plateau).isIncreasing(0.01), MannKendall.test(plateau).toString());
+        Assert.assertEquals(MannKendall.test(plateau).s(), 0);
+    }
+
+    @Test
+    public void testTooFewSamplesNeverFlag() {
+        MannKendall.Trend trend = MannKendall.test(new double[] {1, 2, 3, 4, 5});
+
+        Assert.assertEquals(trend.s(), 10);
+        Assert.assertFalse(trend.isIncreasing(0.5), trend.toString());
+    }
+
+    @Test
+    public void testNormalCdf() {
+        Assert.assertEquals(MannKendall.normalCdf(0), 0.5, 1e-6);
+        Assert.assertEquals(MannKendall.normalCdf(1.959964), 0.975, 1e-6);
+        Assert.assertEquals(MannKendall.normalCdf(-2.326348), 0.01, 1e-6);
+    }
+}
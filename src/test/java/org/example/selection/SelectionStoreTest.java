@@ -0,0 +1,85 @@
+package org.example.selection;
+
+import org.example.utils.ConfigReader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit tests for the recording, hashing and skip decisions of incremental test selection.
+ */
+public class SelectionStoreTest {
+
+    private static final String TEST = SelectionStoreTest.class.getName() + ".testExample";
+    private static final String OTHER = SelectionStoreTest.class.getName() + ".testOther";
+
+    @Test
+    public void testRecordingIsConfinedToTheThreadAndOnlyFedWhileStarted() throws InterruptedException {
+        // A recording of its own, so the one SelectionListener may have started for this suite is left alone
+        TestInputs recording = new TestInputs();
+        recording.begin();
+        TestInputs.config("wait.timeout");
+        Assert.assertEquals(recording.end(), Set.of(), "The hooks fed a recording that was never started.");
+
+        recording.begin();
+        recording.add("config:wait.timeout");
+        recording.add("fixture:data/matrix.csv");
+        Thread other = new Thread(() -> recording.add("fixture:classpath:data/login-matrix.csv"));
+        other.start();
+        other.join();
+        Assert.assertEquals(recording.end(), Set.of("config:wait.timeout", "fixture:data/matrix.csv"));
+        Assert.assertEquals(recording.shared(), Set.of("fixture:classpath:data/login-matrix.csv"),
+                "Inputs of a thread without a test should be shared by every test.");
+    }
+
+    @Test
+    public void testUnchangedPassedTestsAreSkippedUntilAnInputChanges() throws IOException {
+        Path fixture = Files.createTempFile("fixture", ".csv");
+        Files.writeString(fixture, "username,password\n");
+        SelectionStore store = record(Set.of("config:wait.timeout", "fixture:" + fixture), true);
+
+        Assert.assertEquals(store.unchanged(List.of(TEST, OTHER), hasher()), Set.of(TEST));
+
+        Files.writeString(fixture, "username,password\nstandard_user,secret_sauce\n");
+        Assert.assertEquals(store.unchanged(List.of(TEST), hasher()), Set.of(), "A changed fixture did not select the test.");
+        Files.delete(fixture);
+    }
+
+    @Test
+    public void testFailedTestsAndChangedSharedInputsAreNeverSkipped() {
+        Assert.assertEquals(record(Set.of("config:wait.timeout"), false).unchanged(List.of(TEST), hasher()), Set.of());
+
+        SelectionStore store = record(Set.of("config:wait.timeout"), true);
+        store.put(SelectionStore.SHARED, new SelectionStore.Entry("stale", true, Set.of(InputHasher.HARNESS)));
+        Assert.assertEquals(store.unchanged(List.of(TEST), hasher()), Set.of(), "Changed shared inputs did not select every test.");
+    }
+
+    @Test
+    public void testStoreSurvivesSaveAndLoad() throws IOException {
+        Path file = Files.createTempFile("test-inputs", ".properties");
+        record(Set.of("config:wait.timeout", "page:org.example.pages.LoginPage"), true).save(file);
+
+        SelectionStore loaded = SelectionStore.load(file);
+        Assert.assertEquals(loaded.get(TEST).inputs(), Set.of("config:wait.timeout", "page:org.example.pages.LoginPage"));
+        Assert.assertEquals(loaded.unchanged(List.of(TEST), hasher()), Set.of(TEST));
+        Files.delete(file);
+    }
+
+    private static SelectionStore record(Set<String> inputs, boolean passed) {
+        InputHasher hasher = hasher();
+        SelectionStore store = new SelectionStore();
+        store.put(TEST, new SelectionStore.Entry(hasher.hash(inputs), passed, inputs));
+        store.put(SelectionStore.SHARED, new SelectionStore.Entry(hasher.hash(Set.of(InputHasher.HARNESS)), true, Set.of(InputHasher.HARNESS)));
+        return store;
+    }
+
+    private static InputHasher hasher() {
+        return new InputHasher(ConfigReader.getInstance(), SelectionStoreTest.class.getClassLoader(),
+                List.of(SelectionStoreTest.class.getName()));
+    }
+}
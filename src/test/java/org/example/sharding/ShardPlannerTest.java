@@ -0,0 +1,44 @@
+package org.example.sharding;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit tests for the duration-balanced shard assignment of ShardPlanner.
+ */
+public class ShardPlannerTest {
+
+    @Test
+    public void testShardsAreBalancedByDurationNotByName() {
+        TestTimings history = new TestTimings();
+        history.add("A.slow", Duration.ofSeconds(10));
+        history.add("B.medium", Duration.ofSeconds(6));
+        history.add("C.medium", Duration.ofSeconds(5));
+        history.add("D.fast", Duration.ofSeconds(1));
+
+        List<List<String>> shards = ShardPlanner.plan(List.of("A.slow", "B.medium", "C.medium", "D.fast"), history, 2);
+
+        Assert.assertEquals(shards.get(0), List.of("A.slow", "D.fast"));
+        Assert.assertEquals(shards.get(1), List.of("B.medium", "C.medium"));
+        Assert.assertEquals(ShardPlanner.estimate(shards.get(0), history), Duration.ofSeconds(11));
+    }
+
+    @Test
+    public void testEveryTestRunsOnExactlyOneShard() {
+        TestTimings history = new TestTimings();
+        history.add("A.known", Duration.ofSeconds(3));
+        List<String> tests = List.of("A.known", "A.new", "B.new", "B.new", "C.new");
+
+        List<List<String>> shards = ShardPlanner.plan(tests, history, 3);
+
+        Set<String> planned = new HashSet<>();
+        shards.forEach(shard -> shard.forEach(test -> Assert.assertTrue(planned.add(test), test + " was planned twice")));
+        Assert.assertEquals(planned, new HashSet<>(tests));
+        Assert.assertEquals(ShardPlanner.plan(tests, history, 3), shards, "The plan should be deterministic.");
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.tests;
+
+import org.example.artifacts.ArtifactWriter;
+import org.example.artifacts.FailureArtifacts;
+import org.example.driver.BrowserProfile;
+import org.example.driver.DriverContext;
+import org.example.driver.DriverFactory;
+import org.example.driver.DriverPool;
+import org.example.driver.DriverPools;
+import org.example.network.NetworkRecorder;
+import org.example.network.NetworkSummary;
+import org.example.pages.AuthenticatedSession;
+import org.example.pages.LoginPage;
+import org.example.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+
+/**
+ * Base class for browser tests.
+ * Browsers come from a suite-wide {@link DriverPool} and are bound to the test thread through
+ * {@link DriverContext}, so subclasses are safe to run with TestNG parallel="methods" or "classes".
+ * Subclasses must only reach the browser through {@link #driver()} and {@link #loginPage()},
+ * never through instance fields, because one test instance is shared by all threads.
+ */
+public abstract class BaseTest {
+
+    // The pool the current thread's browser was borrowed from
+    private static final ThreadLocal<DriverPool> BORROWED_FROM = new ThreadLocal<>();
+
+    // Writes failure artifacts in the background; created on the first failure
+    private static ArtifactWriter artifactWriter;
+
+    // The network recorder of the current thread's test, when network capture is enabled
+    private static final ThreadLocal<NetworkRecorder> RECORDER = new ThreadLocal<>();
+
+    protected final ConfigReader configReader = ConfigReader.getInstance(); // Read-only, safe to share between threads
+
+    @BeforeClass
+    public void setup() {
+        DriverFactory.resolveDriverBinary(); // Set up ChromeDriver automatically for the test execution.
+        // This ensures we always work with the correct version of the driver without manual intervention.
+    }
+
+    @BeforeMethod
+    public void init(Method method) {
+        // Borrow a warm browser with the profile selected for this test and confine it to this test thread;
+        // it is already on the demo website URL.
+        DriverPool pool = DriverPools.forProfile(BrowserProfile.forTest(configReader, getClass(), method.getName()));
+        WebDriver driver = pool.checkout();
+        BORROWED_FROM.set(pool);
+        try {
+            DriverContext.attach(driver);
+        } catch (RuntimeException e) {
+            // tearDown only releases attached browsers, so hand this one back here or the pool shrinks for good
+            BORROWED_FROM.remove();
+            pool.release(driver, true);
+            throw e;
+        }
+
+        if (configReader.isNetworkCaptureEnabled()) {
+            String harName = getClass().getSimpleName() + "." + method.getName() + ".har";
+            RECORDER.set(NetworkRecorder.start(driver(), configReader.getHarDir().resolve(harName)));
+        }
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        try {
+            // Both run before the pool resets the browser, which would wipe the failed page and add reset traffic
+            try {
+                captureFailure(result);
+            } finally {
+                stopNetworkCapture(result); // Completes the HAR file even when a crashed browser fails the capture
+            }
+        } finally {
+            WebDriver driver = DriverContext.detach();
+            DriverPool pool = BORROWED_FROM.get();
+            BORROWED_FROM.remove();
+            if (driver != null && pool != null) {
+                // Hand the browser back to the pool; it is reset for reuse, or discarded if the test failed
+                pool.release(driver, !result.isSuccess());
+            }
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdownPool() {
+        DriverPools.shutdownAll(); // Close every pooled browser once the suite is done
+        if (AuthenticatedSession.uiLogins() + AuthenticatedSession.reuses() > 0) {
+            Reporter.log("Login sessions: " + AuthenticatedSession.uiLogins() + " captured through the UI, "
+                    + AuthenticatedSession.reuses() + " reused", true);
+        }
+        synchronized (BaseTest.class) {
+            if (artifactWriter != null) {
+                Reporter.log(artifactWriter.shutdown(60)); // Wait for queued artifacts before the JVM exits
+                artifactWriter = null;
+            }
+        }
+    }
+
+    /**
+     * Method to get the browser bound to the current test thread.
+     * @return The thread's WebDriver.
+     */
+    protected WebDriver driver() {
+        return DriverContext.driver();
+    }
+
+    /**
+     * Method to get the login page object bound to the current test thread.
+     * @return The thread's LoginPage.
+     */
+    protected LoginPage loginPage() {
+        return DriverContext.loginPage();
+    }
+
+    /**
+     * Copies the state of a failed test's browser and leaves compressing and writing it to the artifact writer,
+     * so the browser is released without waiting for the disk.
+     */
+    private void captureFailure(ITestResult result) {
+        if (result.getStatus() != ITestResult.FAILURE || !configReader.isArtifactCaptureEnabled()) {
+            return;
+        }
+        String testName = getClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        Path archive = artifactWriter().submit(FailureArtifacts.capture(driver(), testName));
+        Reporter.setCurrentTestResult(result);
+        Reporter.log("Failure artifacts: " + archive);
+    }
+
+    private static synchronized ArtifactWriter artifactWriter() {
+        if (artifactWriter == null) {
+            ConfigReader config = ConfigReader.getInstance();
+            artifactWriter = new ArtifactWriter(config.getArtifactDir(), config.getArtifactThreads(),
+                    config.getArtifactQueueSize(), config.getArtifactMaxBytes());
+        }
+        return artifactWriter;
+    }
+
+    /**
+     * Completes the test's HAR file and adds the slowest and largest resources to its report output.
+     */
+    private static void stopNetworkCapture(ITestResult result) {
+        NetworkRecorder recorder = RECORDER.get();
+        RECORDER.remove();
+        if (recorder != null) {
+            NetworkSummary summary = recorder.stop();
+            Reporter.setCurrentTestResult(result);
+            Reporter.log("Network: " + summary);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.tests;
+
+import org.example.driver.DriverFactory;
+import org.example.performance.LoadOptions;
+import org.example.performance.LoadReport;
+import org.example.performance.LoginLoadGenerator;
+import org.example.utils.ConfigReader;
+import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import org.testng.asserts.SoftAssert;
+
+/**
+ * Load test that drives the login flow from several concurrent browser sessions.
+ * It only runs against the embedded stand-in site, so it works offline and never loads the public site.
+ * Run it with: mvn test -Dtestng.suite=src/test/resources/testng-load.xml
+ */
+public class LoginLoadTests {
+
+    private final ConfigReader configReader = ConfigReader.getInstance();
+
+    @Test(groups = "load")
+    public void testConcurrentLogins() {
+        if (!configReader.isLocalSiteEnabled()) {
+            throw new SkipException("Load runs are only allowed against the local stand-in site (local.site.enabled=true).");
+        }
+
+        LoadOptions options = LoadOptions.fromConfig(configReader);
+        LoadReport report = new LoginLoadGenerator(DriverFactory::newDriver, options, configReader.getWaitTimeout()).run();
+        Reporter.log("Login load: " + report, true);
+
+        SoftAssert softAssert = new SoftAssert();
+        softAssert.assertTrue(report.getIterations() > 0, "The load run did not complete any login.");
+        softAssert.assertEquals(report.getErrors(), 0L, "Some logins failed under load: " + report);
+        softAssert.assertTrue(report.latency(99).compareTo(configReader.getLoadP99Budget()) <= 0,
+                "p99 login latency exceeded the budget: " + report);
+        softAssert.assertAll();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.tests;
+
+import org.example.driver.DriverFactory;
+import org.example.performance.LoginSoak;
+import org.example.performance.MannKendall;
+import org.example.performance.SoakOptions;
+import org.example.performance.SoakReport;
+import org.example.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import org.testng.asserts.SoftAssert;
+
+import java.nio.file.Path;
+
+/**
+ * Soak test that repeats the login cycle in one browser session and fails when memory keeps growing.
+ * It only runs against the embedded stand-in site, so it works offline and never loads the public site.
+ * Run it with: mvn test -Dtestng.suite=src/test/resources/testng-soak.xml
+ */
+public class LoginSoakTests {
+
+    private final ConfigReader configReader = ConfigReader.getInstance();
+
+    @Test(groups = "soak")
+    public void testMemoryIsStableOverLoginCycles() {
+        if (!configReader.isLocalSiteEnabled()) {
+            throw new SkipException("Soak runs are only allowed against the local stand-in site (local.site.enabled=true).");
+        }
+
+        SoakOptions options = SoakOptions.fromConfig(configReader);
+        WebDriver driver = DriverFactory.newDriver();
+        SoakReport report;
+        try {
+            report = new LoginSoak(driver, options, configReader.getWaitTimeout()).run();
+        } finally {
+            driver.quit();
+        }
+        Path csv = configReader.getSoakDir().resolve("memory.csv");
+        report.writeCsv(csv);
+        Reporter.log("Login soak: " + report + " (time series in " + csv + ")", true);
+
+        SoftAssert softAssert = new SoftAssert();
+        softAssert.assertEquals(report.getFailures(), 0L, "Some login cycles failed: " + report);
+        softAssert.assertTrue(report.getSamples().size() >= MannKendall.MIN_SAMPLES,
+                "Too few memory samples for a trend test; raise soak.cycles or lower soak.sample.every: " + report);
+        softAssert.assertTrue(report.growing().isEmpty(), "Memory grew steadily over the run: " + report);
+        softAssert.assertAll();
+    }
+}
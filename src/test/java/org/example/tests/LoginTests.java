@@ -1,20 +1,37 @@
 package org.example.tests;
 
+import org.example.data.CredentialCase;
+import org.example.data.CredentialMatrix;
+import org.example.driver.BrowserProfile;
+import org.example.driver.DriverPool;
+import org.example.driver.DriverPools;
+import org.example.pages.ElementState;
+import org.example.pages.LoginOutcome;
 import org.example.pages.LoginPage;
-import org.example.utils.ConfigReader;
+import org.example.pages.LoginPageSnapshot;
+import org.example.pages.LoginResult;
+import org.example.pages.PageCondition;
+import org.example.pages.PageWait;
+import org.example.performance.LatencyBudget;
+import org.example.performance.PageTimings;
+import org.example.performance.StepTiming;
+import org.example.performance.TimingMetric;
+import org.example.visual.VisualBaselines;
+import org.example.visual.VisualDiff;
+import org.example.visual.VisualDiffResult;
 import org.openqa.selenium.*;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
-import org.testng.annotations.AfterMethod;
+import org.testng.Reporter;
+import org.testng.SkipException;
 import org.testng.annotations.BeforeClass;
-import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * This class includes tests for login functionality on the demo e-commerce website.
@@ -24,64 +41,78 @@ import java.time.Duration;
  * Each test method is structured to validate various login scenarios and page behaviors.
  * Now with advanced error handling for invalid login attempts and message validation.
  */
-public class LoginTests {
-
-    private WebDriver driver;
-    private LoginPage loginPage;
-    private ConfigReader configReader;
+public class LoginTests extends BaseTest {
 
+    /**
+     * Logs in through the UI once per user type the post-login tests need, before any of them runs,
+     * so they always find a cached session and only the tests of the login form pay for the UI path.
+     * A user that cannot be logged in here is logged in through the UI by its test instead, which reports the error.
+     */
     @BeforeClass
-    public void setup() {
-        WebDriverManager.chromedriver().setup(); // Set up ChromeDriver automatically for the test execution.
-        // This ensures we always work with the correct version of the driver without manual intervention.
-    }
-
-    @BeforeMethod
-    public void init() {
-        driver = new ChromeDriver(); // Initiating a fresh ChromeDriver for each test to ensure a clean test environment.
-        configReader = new ConfigReader(); // ConfigReader is used to fetch credentials dynamically, ensuring flexibility in testing.
-        loginPage = new LoginPage(driver); // Instantiate LoginPage to simulate the user login behavior.
-        driver.get(configReader.getBaseUrl()); // Navigate to the demo website URL before each test.
+    public void captureSessions() {
+        List<String> users = new ArrayList<>(List.of("problem_user", "visual_user"));
+        if (VisualBaselines.fromConfig(configReader).isRecording()) {
+            users.add("standard_user"); // Only needed to record the inventory baseline
+        }
+        DriverPool pool = DriverPools.forProfile(BrowserProfile.fromConfig(configReader, configReader.getDefaultBrowserProfile()));
+        for (String username : users) {
+            WebDriver driver;
+            try {
+                driver = pool.checkout();
+            } catch (RuntimeException e) {
+                Reporter.log("Could not start a browser to capture login sessions: " + e, true);
+                return;
+            }
+            boolean failed = true;
+            try {
+                failed = !new LoginPage(driver).loginWithSession(username, "secret_sauce").isSuccess();
+            } catch (RuntimeException e) {
+                Reporter.log("Could not capture the login session of " + username + ": " + e, true);
+            } finally {
+                pool.release(driver, failed); // The reset logs the browser out again before the next user
+            }
+        }
     }
 
-
-
-
     @Test
     public void testLoginPageUI() {
         SoftAssert softAssert = new SoftAssert(); // SoftAssert to perform non-blocking assertions
 
-        // Open the login page
-        driver.get("https://www.saucedemo.com/");
+        // Open the login page and check its browser-side load time against the budget. DOMContentLoaded is recorded
+        // under every page load strategy, whereas the load event has usually not finished yet when eager loading returns
+        PageTimings timings = loginPage().recordTimings();
+        loginPage().open();
+        List<String> budgetViolations = LatencyBudget.none().limit(TimingMetric.DOM_CONTENT_LOADED, configReader.getOpenPageBudget())
+                .violations(timings.last("open"));
+        softAssert.assertTrue(budgetViolations.isEmpty(), "Login page missed its load budget: " + budgetViolations);
 
-        // Check presence and state of login fields using SoftAssert (non-blocking)
-        WebElement usernameField = driver.findElement(By.id("user-name"));
-        WebElement passwordField = driver.findElement(By.id("password"));
-        WebElement loginButton = driver.findElement(By.id("login-button"));
+        // Capture the state of every login field in a single round trip, then assert on it using SoftAssert (non-blocking)
+        LoginPageSnapshot snapshot = loginPage().snapshot();
+        ElementState usernameField = snapshot.username();
+        ElementState passwordField = snapshot.password();
+        ElementState loginButton = snapshot.loginButton();
 
-        softAssert.assertTrue(usernameField.isDisplayed(), "Username field is missing on the login page.");
-        softAssert.assertTrue(passwordField.isDisplayed(), "Password field is missing on the login page.");
-        softAssert.assertTrue(loginButton.isDisplayed(), "Login button is missing on the login page.");
+        softAssert.assertTrue(usernameField.displayed(), "Username field is missing on the login page.");
+        softAssert.assertTrue(passwordField.displayed(), "Password field is missing on the login page.");
+        softAssert.assertTrue(loginButton.displayed(), "Login button is missing on the login page.");
 
 
-        softAssert.assertTrue(usernameField.isEnabled(), "Username field is not enabled.");
-        softAssert.assertTrue(passwordField.isEnabled(), "Password field is not enabled.");
-        softAssert.assertTrue(loginButton.isEnabled(), "Login button is not enabled.");
+        softAssert.assertTrue(usernameField.enabled(), "Username field is not enabled.");
+        softAssert.assertTrue(passwordField.enabled(), "Password field is not enabled.");
+        softAssert.assertTrue(loginButton.enabled(), "Login button is not enabled.");
 
         // Verify password field type (this is a critical check, so use HardAssert)
-        String passwordFieldType = passwordField.getAttribute("type");
+        String passwordFieldType = passwordField.attribute("type");
         Assert.assertEquals(passwordFieldType, "password", "Password field should be masked (type='password').");
 
         // Verify placeholders for username and password fields using SoftAssert
-        String usernamePlaceholder = usernameField.getAttribute("placeholder");
-        String passwordPlaceholder = passwordField.getAttribute("placeholder");
+        String usernamePlaceholder = usernameField.attribute("placeholder");
+        String passwordPlaceholder = passwordField.attribute("placeholder");
         softAssert.assertEquals(usernamePlaceholder, "Username", "Username field placeholder is incorrect.");
         softAssert.assertEquals(passwordPlaceholder, "Password", "Password field placeholder is incorrect.");
 
-        // Now attempt login with a locked-out user (critical, so use HardAssert)
-        usernameField.sendKeys("standard_user");
-        passwordField.sendKeys("secret_sauce");
-        loginButton.click();
+        // Now attempt login with a standard user
+        loginPage().login("standard_user", "secret_sauce");
 
 
         // Finalize soft assertions
@@ -90,14 +121,45 @@ public class LoginTests {
 
 
 
+    /**
+     * Provides the rows of the configured credential matrix. parallel=true spreads them over data-provider
+     * threads, each with its own pooled browser; TestNG drains the iterator into one invocation per row
+     * before the first one runs, so every row is held in memory for the duration of the method.
+     */
+    @DataProvider(name = "credentialMatrix", parallel = true)
+    public Iterator<Object[]> credentialMatrix() {
+        CredentialMatrix rows = CredentialMatrix.open(configReader.getLoginMatrix());
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[] {rows.next()};
+            }
+        };
+    }
+
+    @Test(dataProvider = "credentialMatrix")
+    public void testLoginOutcomeMatrix(CredentialCase credentials) {
+        // Race the inventory page against the error banner and compare whichever appears first with the expected outcome
+        LoginResult result = loginPage().attemptLogin(credentials.username(), credentials.password());
+        Assert.assertEquals(result.outcome(), credentials.expected(),
+                "Unexpected login outcome for " + credentials + ", error banner: '" + result.errorText() + "'");
+    }
+
+
+
     @Test
     public void testLockedOutUserLogin() {
         SoftAssert softAssert = new SoftAssert(); // Soft assertion for non-blocking validation during the test.
 
         // Login attempt with a locked-out user (simulating invalid login).
-        WebElement usernameField = driver.findElement(By.id("user-name"));
-        WebElement passwordField = driver.findElement(By.id("password"));
-        WebElement loginButton = driver.findElement(By.id("login-button"));
+        WebElement usernameField = driver().findElement(By.id("user-name"));
+        WebElement passwordField = driver().findElement(By.id("password"));
+        WebElement loginButton = driver().findElement(By.id("login-button"));
 
         // Ensure 'X' is not visible before the error message appears
         WebElement clearUsernameButtonBeforeError = null;
@@ -105,8 +167,8 @@ public class LoginTests {
 
         try {
             // Try to find the 'X' buttons before login attempt
-            clearUsernameButtonBeforeError = driver.findElement(By.cssSelector("svg.fa-times-circle"));
-            clearPasswordButtonBeforeError = driver.findElement(By.cssSelector("svg.fa-times-circle"));
+            clearUsernameButtonBeforeError = driver().findElement(By.cssSelector("svg.fa-times-circle"));
+            clearPasswordButtonBeforeError = driver().findElement(By.cssSelector("svg.fa-times-circle"));
 
             // Verify that 'X' buttons are NOT displayed before the error
             softAssert.assertFalse(clearUsernameButtonBeforeError.isDisplayed(),
@@ -122,12 +184,12 @@ public class LoginTests {
         passwordField.sendKeys("secret_sauce");
         loginButton.click();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        PageWait wait = new PageWait(driver(), configReader.getWaitTimeout());
         WebElement errorMessage = null;
 
         try {
             // Wait until the error message is visible
-            errorMessage = wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(".error-message-container")));
+            errorMessage = wait.untilVisible(By.cssSelector(".error-message-container"));
             softAssert.assertTrue(errorMessage.isDisplayed(),
                     "Error message should appear for locked-out user, but it was not displayed.");
         } catch (TimeoutException e) {
@@ -140,8 +202,8 @@ public class LoginTests {
                 "Error message does not indicate the correct issue. Expected 'locked out' message.");
 
         // Now check that the 'X' button appears after the error message
-        WebElement clearUsernameButtonAfterError = driver.findElement(By.cssSelector("svg.fa-times-circle"));
-        WebElement clearPasswordButtonAfterError = driver.findElement(By.cssSelector("svg.fa-times-circle"));
+        WebElement clearUsernameButtonAfterError = driver().findElement(By.cssSelector("svg.fa-times-circle"));
+        WebElement clearPasswordButtonAfterError = driver().findElement(By.cssSelector("svg.fa-times-circle"));
 
         softAssert.assertTrue(clearUsernameButtonAfterError.isDisplayed(),
                 "Clear 'X' button should be visible in username field after error message.");
@@ -179,27 +241,20 @@ public class LoginTests {
 
     @Test
     public void testProblemUserLogin() {
-        // Hard Assertions to ensure the presence of essential elements on the login page
-        WebElement usernameField = driver.findElement(By.id("user-name"));
-        WebElement passwordField = driver.findElement(By.id("password"));
-        WebElement loginButton = driver.findElement(By.id("login-button"));
-
-
-        // Input username and password, then click the login button
-        usernameField.sendKeys("problem_user");
-        passwordField.sendKeys("secret_sauce");
-        loginButton.click();
+        // This test is about the page after login, not the form, so reuse the session of an earlier UI login when there is one
+        LoginResult result = loginPage().loginWithSession("problem_user", "secret_sauce");
+        Assert.assertTrue(result.isSuccess(), "Problem user could not log in: " + result);
 
         // Soft Assertions for additional checks after login
         SoftAssert softAssert = new SoftAssert();
 
         // Verify the page title after login to ensure redirection to the correct page
         String expectedPageTitle = "Swag Labs"; // Update the expected page title for the Inventory page
-        String actualPageTitle = driver.getTitle();
+        String actualPageTitle = driver().getTitle();
         softAssert.assertEquals(actualPageTitle, expectedPageTitle, "Expected page title to be 'Swag Labs' after login.");
 
         // Ensure that the inventory page is displayed after login
-        WebElement inventoryContainer = driver.findElement(By.className("inventory_container"));
+        WebElement inventoryContainer = driver().findElement(By.className("inventory_container"));
         softAssert.assertTrue(inventoryContainer.isDisplayed(), "Inventory page should be visible after login.");
 
         // Verify all Soft Assertions at the end
@@ -213,51 +268,47 @@ public class LoginTests {
     public void testPerformanceGlitchUserLogin() {
         SoftAssert softAssert = new SoftAssert();
 
-        // Hard Assertions to ensure the presence of essential elements on the login page
-        WebElement usernameField = driver.findElement(By.id("user-name"));
-        WebElement passwordField = driver.findElement(By.id("password"));
-        WebElement loginButton = driver.findElement(By.id("login-button"));
-
+        // Log in and race the inventory page against the error banner; whichever appears first decides the outcome
+        PageTimings timings = loginPage().recordTimings();
+        LoginResult result = loginPage().attemptLogin("performance_glitch_user", "secret_sauce");
 
-        // Start timing the login process for performance glitch user
-        long startTime = System.currentTimeMillis();
-
-        // Input username and password, then click the login button
-        usernameField.sendKeys("performance_glitch_user");
-        passwordField.sendKeys("secret_sauce");
-        loginButton.click();
-
-        // Wait for the login process to complete (to simulate the glitch)
-        WebDriverWait waitForLogin = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-        try {
-            // Wait until the URL contains "inventory.html" (indicating successful login)
-            waitForLogin.until(ExpectedConditions.urlContains("inventory.html"));
-
-            long elapsedTime = System.currentTimeMillis() - startTime; // Measure elapsed time to ensure performance checks
+        if (result.isSuccess()) {
+            StepTiming login = timings.last("login");
+            Reporter.log("Performance glitch user login: " + login);
 
             // Assert that login took longer than expected (performance glitch)
-            softAssert.assertTrue(elapsedTime > 5000, "Performance issue was not detected. The login process took less than expected.");
-        } catch (TimeoutException e) {
-            // If URL doesn't contain "inventory.html", login failed, check for error message
-            WebElement errorMessage = waitForLogin.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(".error-message-container")));
-            String errorMessageText = errorMessage.getText();
-            softAssert.assertTrue(errorMessageText.contains("Please enter valid email or password"),
+            Duration expectedDelay = configReader.isLocalSiteEnabled() ? configReader.getGlitchDelay() : Duration.ofSeconds(5);
+            softAssert.assertTrue(result.latency().compareTo(expectedDelay) >= 0,
+                    "Performance issue was not detected. The login process took " + result.latency().toMillis() + " ms.");
+            if (configReader.isLocalSiteEnabled()) {
+                // The stand-in delays the inventory response itself, so the glitch must show up as server time, not harness time
+                softAssert.assertTrue(login.navigated() && login.get(TimingMetric.TTFB).compareTo(expectedDelay) >= 0,
+                        "The glitch delay was not attributed to the server response: " + login);
+            }
+        } else if (result.outcome() == LoginOutcome.TIMEOUT) {
+            softAssert.fail("Neither the inventory page nor an error message appeared for performance glitch user.");
+        } else {
+            // Login failed, the error message is already visible
+            WebElement usernameField = driver().findElement(By.id("user-name"));
+            WebElement passwordField = driver().findElement(By.id("password"));
+            PageWait waitForLogin = new PageWait(driver(), configReader.getWaitTimeout());
+            WebElement errorMessage = driver().findElement(By.cssSelector(".error-message-container"));
+            softAssert.assertTrue(result.errorText().contains("Please enter valid email or password"),
                     "Error message does not contain the expected 'Please enter valid email or password' text.");
 
             // Check if 'X' buttons are visible after error message
-            WebElement clearUsernameButtonAfterError = driver.findElement(By.cssSelector("svg.fa-times-circle"));
-            WebElement clearPasswordButtonAfterError = driver.findElement(By.cssSelector("svg.fa-times-circle"));
+            WebElement clearUsernameButtonAfterError = driver().findElement(By.cssSelector("svg.fa-times-circle"));
+            WebElement clearPasswordButtonAfterError = driver().findElement(By.cssSelector("svg.fa-times-circle"));
 
             softAssert.assertTrue(clearUsernameButtonAfterError.isDisplayed(), "Clear 'X' button should be visible in username field after error message.");
             softAssert.assertTrue(clearPasswordButtonAfterError.isDisplayed(), "Clear 'X' button should be visible in password field after error message.");
 
             // Click on the 'X' to clear the error message
-            WebElement closeErrorButton = driver.findElement(By.cssSelector("svg.fa-times"));
+            WebElement closeErrorButton = driver().findElement(By.cssSelector("svg.fa-times"));
             closeErrorButton.click();
 
             // Wait until the error message disappears
-            waitForLogin.until(ExpectedConditions.invisibilityOf(errorMessage));
+            waitForLogin.untilHidden(By.cssSelector(".error-message-container"));
             softAssert.assertTrue(errorMessage.getAttribute("style").contains("display: none"),
                     "Error message should disappear after clicking on the close button.");
 
@@ -287,26 +338,22 @@ public class LoginTests {
     public void testErrorUserLogin() {
         SoftAssert softAssert = new SoftAssert();  // Soft assertion for non-blocking validation during the test.
 
-        // Define the fields on the login page
-        WebElement usernameField = driver.findElement(By.id("user-name"));
-        WebElement passwordField = driver.findElement(By.id("password"));
-        WebElement loginButton = driver.findElement(By.id("login-button"));
+        // Attempt login with invalid user (Error User); "wrong_password" is invalid.
+        // The outcome is reported as soon as the error banner shows instead of after a full wait timeout.
+        LoginResult result = loginPage().attemptLogin("error_user", "wrong_password");
 
+        // Define the fields on the login page
+        WebElement usernameField = driver().findElement(By.id("user-name"));
+        WebElement passwordField = driver().findElement(By.id("password"));
 
-        // Attempt login with invalid user (Error User)
-        usernameField.sendKeys("error_user");  // "error_user" is invalid.
-        passwordField.sendKeys("wrong_password");  // "wrong_password" is invalid.
-        loginButton.click();
-
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        PageWait wait = new PageWait(driver(), configReader.getWaitTimeout());
         WebElement errorMessage = null;
 
-        try {
-            // Wait for the error message to appear
-            errorMessage = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("error_message")));
-        } catch (TimeoutException e) {
+        if (result.outcome() == LoginOutcome.INVALID_CREDENTIALS) {
+            errorMessage = driver().findElement(By.cssSelector(".error-message-container"));
+        } else {
             // If error message does not appear in time, handle gracefully
-            softAssert.fail("Error message did not appear in time for error user.");
+            softAssert.fail("Error message did not appear for error user, login outcome was " + result.outcome() + ".");
         }
 
         // Verify if errorMessage is found and not null
@@ -317,12 +364,12 @@ public class LoginTests {
                     "Error message does not indicate the correct issue. Expected 'error user' message.");
 
             // Click the "X" to close the error message
-            WebElement closeErrorButton = driver.findElement(By.cssSelector("svg.fa-times"));
+            WebElement closeErrorButton = driver().findElement(By.cssSelector("svg.fa-times"));
             closeErrorButton.click();
 
             // Wait for the error message to disappear
             try {
-                wait.until(ExpectedConditions.invisibilityOf(errorMessage));
+                wait.untilHidden(By.cssSelector(".error-message-container"));
                 softAssert.assertTrue(errorMessage.getAttribute("style").contains("display: none"),
                         "Error message should disappear after clicking on the close button.");
             } catch (TimeoutException e) {
@@ -351,38 +398,64 @@ public class LoginTests {
     @Test
     public void testVisualUserLogin() {
         SoftAssert softAssert = new SoftAssert();
+        PageWait wait = new PageWait(driver(), configReader.getWaitTimeout());
+
+        // standard_user's inventory is the reference the visual user's inventory is compared with
+        VisualBaselines baselines = VisualBaselines.fromConfig(configReader);
+        for (String name : List.of("login-page", "inventory")) {
+            String missing = baselines.missingBaseline(name);
+            if (missing != null) {
+                throw new SkipException(missing); // Nothing to compare with yet, which is not a failure of the site
+            }
+        }
+        if (baselines.isRecording()) {
+            Assert.assertTrue(loginPage().loginWithSession("standard_user", "secret_sauce").isSuccess(),
+                    "Standard user could not log in to record the inventory baseline.");
+            baselines.record("inventory", settledScreenshot());
+            driver().manage().deleteAllCookies();
+            driver().get(configReader.getBaseUrl());
+        }
 
         // Define the fields and buttons on the login page
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        WebElement usernameField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("user-name")));
-        WebElement passwordField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("password")));
-        WebElement loginButton = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("login-button")));
+        WebElement usernameField = wait.untilVisible(By.id("user-name"));
+        WebElement passwordField = wait.untilVisible(By.id("password"));
+        WebElement loginButton = wait.untilVisible(By.id("login-button"));
 
+        // The login page must look like its baseline; the input fields are ignored because a caret may blink in them
+        VisualDiffResult loginPageVisual = baselines.check("login-page", settledScreenshot(), VisualDiff.fromConfig(configReader)
+                .ignore(toScreenshotPixels(usernameField.getRect())).ignore(toScreenshotPixels(passwordField.getRect())));
+        Reporter.log("Login page visual check: " + loginPageVisual);
+        softAssert.assertTrue(loginPageVisual.matched(), "Login page does not match its baseline: " + loginPageVisual);
 
-        // Step 1: Login attempt with correct data
-        usernameField.sendKeys("visual_user");
-        passwordField.sendKeys("secret_sauce");  // Correct password for a successful login
-        loginButton.click();
+
+        // Step 1: Reach the inventory as the visual user; the login form itself is exercised again in step 6,
+        // so an earlier UI login of this user is reused when there is one
+        loginPage().loginWithSession("visual_user", "secret_sauce");
 
         WebElement inventoryPage = null;
 
         try {
             // Wait for the inventory page to be visible after successful login
-            inventoryPage = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("inventory_container")));
+            inventoryPage = wait.untilVisible(By.id("inventory_container"));
             softAssert.assertTrue(inventoryPage.isDisplayed(),
                     "Visual user should see the inventory page with proper visibility after successful login.");
+
+            // Assert that the visual glitches of this user show up against standard_user's inventory
+            VisualDiffResult inventoryVisual = baselines.compare("inventory", settledScreenshot(), VisualDiff.fromConfig(configReader));
+            Reporter.log("Visual user inventory check: " + inventoryVisual);
+            softAssert.assertFalse(inventoryVisual.matched(), "Visual glitches were not detected: " + inventoryVisual);
         } catch (TimeoutException e) {
             softAssert.fail("Visual user failed to see the inventory page after successful login.");
         }
 
         // Step 2: Redirect back to the login page manually
         // Assuming that you can directly go back to the login page with a URL.
-        driver.get("https://www.saucedemo.com/"); // Replace with the actual URL for your login page.
+        driver().get(configReader.getBaseUrl());
 
         // Re-validate the username and password fields after redirecting back to the login page
-        usernameField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("user-name")));
-        passwordField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("password")));
-        loginButton = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("login-button")));
+        usernameField = wait.untilVisible(By.id("user-name"));
+        passwordField = wait.untilVisible(By.id("password"));
+        loginButton = wait.untilVisible(By.id("login-button"));
 
         // Try logging in with incorrect data
         usernameField.sendKeys("invalid_user");
@@ -394,7 +467,7 @@ public class LoginTests {
 
         try {
             // Wait for the error message to appear
-            errorMessage = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("error_message")));
+            errorMessage = wait.untilVisible(By.id("error_message"));
             softAssert.assertTrue(errorMessage.isDisplayed(), "Error message should appear after invalid login.");
         } catch (TimeoutException e) {
             softAssert.fail("Error message did not appear for invalid login.");
@@ -402,7 +475,7 @@ public class LoginTests {
 
         // Step 3: Ensure the "X" button is shown after error message
         try {
-            closeErrorButton = wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("svg.fa-times")));
+            closeErrorButton = wait.untilVisible(By.cssSelector("svg.fa-times"));
             softAssert.assertTrue(closeErrorButton.isDisplayed(), "'X' button should be visible after error message.");
         } catch (TimeoutException e) {
             softAssert.fail("'X' button did not appear after error message.");
@@ -413,7 +486,7 @@ public class LoginTests {
 
         // Step 5: Ensure the error message disappears
         try {
-            wait.until(ExpectedConditions.invisibilityOf(errorMessage));
+            wait.untilHidden(By.id("error_message"));
             softAssert.assertTrue(errorMessage.getAttribute("style").contains("display: none"),
                     "Error message should disappear after clicking on the close button.");
         } catch (TimeoutException e) {
@@ -422,9 +495,9 @@ public class LoginTests {
 
         // Step 6: Re-enter correct data after closing the error message
         // Re-locate the elements since the previous ones may have become stale after closing the error message
-        usernameField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("user-name")));
-        passwordField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("password")));
-        loginButton = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("login-button")));
+        usernameField = wait.untilVisible(By.id("user-name"));
+        passwordField = wait.untilVisible(By.id("password"));
+        loginButton = wait.untilVisible(By.id("login-button"));
 
         usernameField.clear();
         passwordField.clear();
@@ -434,7 +507,7 @@ public class LoginTests {
 
         // Step 7: Wait for the inventory page to be visible again after successful login
         try {
-            inventoryPage = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("inventory_container")));
+            inventoryPage = wait.untilVisible(By.id("inventory_container"));
             softAssert.assertTrue(inventoryPage.isDisplayed(),
                     "Visual user should see the inventory page with proper visibility after re-login.");
         } catch (TimeoutException e) {
@@ -445,11 +518,23 @@ public class LoginTests {
         softAssert.assertAll();
     }
 
+    /**
+     * Takes a screenshot once every image on the page has finished loading, so baselines are not compared half-drawn.
+     */
+    private byte[] settledScreenshot() {
+        new PageWait(driver(), configReader.getWaitTimeout()).until(PageCondition.of("all images to finish loading",
+                "return document.readyState === 'complete' && Array.from(document.images).every(function (i) { return i.complete; }) ? true : null;",
+                null,
+                d -> Boolean.TRUE)); // Without scripts the load state cannot be observed
+        return ((TakesScreenshot) driver()).getScreenshotAs(OutputType.BYTES);
+    }
 
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit(); // Clean up and close the browser after each test method
-        }
+    /**
+     * Converts an element rectangle from CSS pixels to screenshot pixels.
+     */
+    private Rectangle toScreenshotPixels(Rectangle rect) {
+        double ratio = ((Number) ((JavascriptExecutor) driver()).executeScript("return window.devicePixelRatio;")).doubleValue();
+        return new Rectangle((int) Math.floor(rect.getX() * ratio), (int) Math.floor(rect.getY() * ratio),
+                (int) Math.ceil(rect.getHeight() * ratio), (int) Math.ceil(rect.getWidth() * ratio));
     }
 }
@@ -0,0 +1,104 @@
+package org.example.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Unit tests for the layering, typed getters and validation of ConfigReader.
+ */
+public class ConfigReaderTest {
+
+    @Test
+    public void testSystemPropertiesOverrideEnvironmentAndFile() {
+        Properties system = new Properties();
+        system.setProperty("pool.size", "12");
+        ConfigReader config = ConfigReader.load(Map.of("POOL_SIZE", "6", "POOL_MAX_USES", "3"), system);
+
+        Assert.assertEquals(config.getPoolSize(), 12, "System properties should win over environment variables.");
+        Assert.assertEquals(config.getPoolMaxUses(), 3, "Environment variables should win over config.properties.");
+        Assert.assertEquals(config.getPassword(), "secret_sauce", "Keys without overrides should come from config.properties.");
+        Assert.assertEquals(config.getSystemOverrides(), Map.of("pool.size", "12"), "Only system properties are overrides to pass on.");
+    }
+
+    @Test
+    public void testDurationsAcceptUnitSuffixes() {
+        Properties system = new Properties();
+        system.setProperty("wait.timeout", "250ms");
+        system.setProperty("local.site.glitch.delay", "2m");
+        ConfigReader config = ConfigReader.load(Map.of(), system);
+
+        Assert.assertEquals(config.getWaitTimeout(), Duration.ofMillis(250));
+        Assert.assertEquals(config.getGlitchDelay(), Duration.ofMinutes(2));
+    }
+
+    @Test
+    public void testPlainNumbersAreMilliseconds() {
+        for (String value : new String[] {"0", "5", "250"}) {
+            Properties system = new Properties();
+            system.setProperty("load.pacing", value);
+            ConfigReader config = ConfigReader.load(Map.of(), system);
+
+            Assert.assertEquals(config.getDuration("load.pacing"), Duration.ofMillis(Long.parseLong(value)), value);
+        }
+    }
+
+    @Test
+    public void testInvalidValuesFailFast() {
+        Properties system = new Properties();
+        system.setProperty("pool.size", "many");
+        system.setProperty("local.site.enabled", "yes");
+
+        IllegalStateException error = Assert.expectThrows(IllegalStateException.class,
+                () -> ConfigReader.load(Map.of(), system));
+        Assert.assertTrue(error.getMessage().contains("pool.size"), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("local.site.enabled"), error.getMessage());
+    }
+
+    @Test
+    public void testBrowserProfileSelectionFallsBackFromMethodToClassToDefault() {
+        Properties system = new Properties();
+        system.setProperty("browser.profile.for.SomeTests", "full");
+        system.setProperty("browser.profile.for.SomeTests.testFast", "lean");
+        ConfigReader config = ConfigReader.load(Map.of(), system);
+
+        Assert.assertEquals(config.getBrowserProfileName("SomeTests", "testFast"), "lean");
+        Assert.assertEquals(config.getBrowserProfileName("SomeTests", "testOther"), "full");
+        Assert.assertEquals(config.getBrowserProfileName("OtherTests", "testOther"), config.getDefaultBrowserProfile());
+    }
+
+    @Test
+    public void testUnknownBrowserProfileFailsFast() {
+        Properties system = new Properties();
+        system.setProperty("browser.profile.for.SomeTests", "turbo");
+
+        Assert.assertThrows(IllegalStateException.class, () -> ConfigReader.load(Map.of(), system));
+    }
+
+    @Test
+    public void testPoolMustCoverParallelThreads() {
+        Properties system = new Properties();
+        system.setProperty("pool.size", "2");
+        system.setProperty("parallel.threads", "8");
+
+        Assert.assertThrows(IllegalStateException.class, () -> ConfigReader.load(Map.of(), system));
+    }
+
+    @Test
+    public void testEmbeddedGridMustRunOnLocalhost() {
+        Properties system = new Properties();
+        system.setProperty("driver.mode", "remote");
+        system.setProperty("grid.embedded", "true");
+        system.setProperty("grid.url", "http://grid.example.com:4444");
+
+        IllegalStateException error = Assert.expectThrows(IllegalStateException.class,
+                () -> ConfigReader.load(Map.of(), system));
+        Assert.assertTrue(error.getMessage().contains("grid.embedded"), error.getMessage());
+
+        system.setProperty("grid.url", "http://localhost:4444");
+        Assert.assertTrue(ConfigReader.load(Map.of(), system).isRemoteDriver());
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.visual;
+
+import org.openqa.selenium.Rectangle;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for the tolerance, ignore regions and staging of VisualDiff, and for baseline recording.
+ */
+public class VisualDiffTest {
+
+    private final VisualDiff diff = new VisualDiff(16, 0.001, 12);
+
+    @Test
+    public void testIdenticalImagesMatchWithoutPixelDiff() {
+        VisualDiffResult result = diff.compare(page(), page());
+
+        Assert.assertTrue(result.matched(), result.toString());
+        Assert.assertEquals(result.reason(), "identical");
+    }
+
+    @Test
+    public void testDifferencesWithinToleranceMatch() {
+        BufferedImage actual = page();
+        actual.setRGB(10, 10, 0xF4F4F4);  // Off by 11 per channel from white, within the tolerance of 16
+
+        VisualDiffResult result = diff.compare(page(), actual);
+
+        Assert.assertTrue(result.matched(), result.toString());
+        Assert.assertEquals(result.differentPixels(), 0);
+    }
+
+    @Test
+    public void testChangedRegionIsReportedAndCanBeIgnored() {
+        BufferedImage actual = page();
+        fill(actual, Color.RED, 200, 100, 60, 40);
+
+        VisualDiffResult result = diff.compare(page(), actual);
+        Assert.assertFalse(result.matched(), result.toString());
+        Assert.assertEquals(result.differentPixels(), 60 * 40);
+
+        VisualDiffResult ignored = diff.ignore(new Rectangle(200, 100, 40, 60)).compare(page(), actual);
+        Assert.assertTrue(ignored.matched(), ignored.toString());
+        Assert.assertEquals(ignored.comparedPixels(), 640L * 480 - 60 * 40);
+        Assert.assertEquals(diff.diffImage(page(), actual).getRGB(210, 110) & 0xFFFFFF, 0xFF0000);
+    }
+
+    @Test
+    public void testDifferentSizesDoNotMatch() {
+        VisualDiffResult result = diff.compare(page(), new BufferedImage(640, 400, BufferedImage.TYPE_INT_RGB));
+
+        Assert.assertFalse(result.matched(), result.toString());
+    }
+
+    @Test
+    public void testMissingBaselineFailsAndRecordingStaysOutOfTheBaselineDir() throws IOException {
+        Path baselineDir = Files.createTempDirectory("baselines");
+        Path outputDir = Files.createTempDirectory("visual");
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(page(), "png", png);
+
+        VisualBaselines checking = new VisualBaselines(baselineDir, outputDir, false);
+        Assert.assertNotNull(checking.missingBaseline("login-page"));
+        Assert.assertThrows(IllegalStateException.class, () -> checking.check("login-page", png.toByteArray(), diff));
+
+        VisualBaselines recording = new VisualBaselines(baselineDir, outputDir, true);
+        Assert.assertNull(recording.missingBaseline("login-page"));
+        Assert.assertTrue(recording.check("login-page", png.toByteArray(), diff).matched());
+        Assert.assertTrue(Files.exists(outputDir.resolve("baselines").resolve("login-page.png")));
+        try (Stream<Path> files = Files.list(baselineDir)) {
+            Assert.assertEquals(files.count(), 0L, "Recording wrote into the baseline directory.");
+        }
+        Assert.assertTrue(recording.compare("login-page", png.toByteArray(), diff).matched(),
+                "Comparisons while recording should use the baselines recorded in the same run.");
+    }
+
+    /**
+     * A white 640x480 page with a column of dark blocks, so the perceptual hash has edges to work with.
+     */
+    private static BufferedImage page() {
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        fill(image, Color.WHITE, 0, 0, 640, 480);
+        for (int i = 0; i < 6; i++) {
+            fill(image, Color.DARK_GRAY, 40, 20 + i * 75, 120, 50);
+        }
+        return image;
+    }
+
+    private static void fill(BufferedImage image, Color color, int x, int y, int width, int height) {
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(x, y, width, height);
+        graphics.dispose();
+    }
+}